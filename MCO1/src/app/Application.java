@@ -1,6 +1,8 @@
 package app;
 
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import game.crop.*;
 import game.farm.*;
@@ -17,15 +19,28 @@ public final class Application {
     private final static Scanner sc = new Scanner(System.in);
     private static Player player;
     private static boolean running = true;
+    private static RandomGenerator random;
 
     private Application() {
     }
 
     /**
      * Executes the game as long as the player wishes to continue.
-     * @param args   No arguments are parsed or used.
+     * @param args   Optionally, the seed of the game's random number
+     *               generator, so that a game can be played out again.
      */
     public static void main(String[] args) {
+        random = new SplittableRandom();
+        if (args.length > 0) {
+            try {
+                random = new SplittableRandom(Long.parseLong(args[0]));
+            } catch (NumberFormatException e) {
+                System.err.println("The seed has to be a whole number: " + args[0]);
+                System.err.println("Usage: java app.Application [seed]");
+                System.exit(1);
+            }
+        }
+
         while (running) {
             running = playGame();
             System.out.println();
@@ -238,7 +253,7 @@ public final class Application {
             case HARVEST: {
                 if (getCrop() != null && getCrop().isHarvestable()) {
                     double bonusEarnings = getFarmer().getBonusEarnings();
-                    HarvestCropReport r = getTile().harvest(bonusEarnings);
+                    HarvestCropReport r = getTile().harvest(bonusEarnings, random);
                     // harvests are always successful so no need for conditions
                     player.addMoney(r.getProfit());
                     player.addXP(r.getExpGained());
@@ -1,5 +1,8 @@
 package game.crop;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * A crop that can be planted and sold for profit.
  */
@@ -135,7 +138,20 @@ public class Crop {
      * @see HarvestCropReport
      */
     public HarvestCropReport harvest() {
-        int productsProduced = getRandomYield();
+        return harvest(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a harvest report containing the products produced and the
+     * crop's experience yield, using the given random number generator for
+     * the products produced.
+     * @param random   The random number generator to use.
+     * @return   A report containing the products produced and the crop's
+     *           experience yield.
+     * @see #harvest()
+     */
+    public HarvestCropReport harvest(RandomGenerator random) {
+        int productsProduced = getRandomYield(random);
         return new HarvestCropReport(productsProduced, 0, expYield);
     }
     
@@ -145,7 +161,18 @@ public class Crop {
      * @return   The randomly generated yield.
      */
     public int getRandomYield() {
-        return (int)((Math.random() * (maxYield - minYield)) + minYield);
+        return getRandomYield(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Randomly generates a number between the crop's minimum and maximum
+     * product yield using the given random number generator.
+     * @param random   The random number generator to use.
+     * @return   The randomly generated yield.
+     * @see #getRandomYield()
+     */
+    public int getRandomYield(RandomGenerator random) {
+        return (int)((random.nextDouble() * (maxYield - minYield)) + minYield);
     }
 
     /**
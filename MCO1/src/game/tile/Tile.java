@@ -1,5 +1,8 @@
 package game.tile;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 import game.crop.*;
 
 /**
@@ -93,8 +96,21 @@ public class Tile {
      * @see TileActionReportMessages
      */
     public HarvestCropReport harvest(double bonusEarnings) {
+        return harvest(bonusEarnings, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Harvests the crop using the given random number generator for the
+     * products produced.
+     * @pre plantedCrop != null and isHarvestable()
+     * @param bonusEarnings   Added money per product sold.
+     * @param random          The random number generator to use.
+     * @return   Report about the action.
+     * @see #harvest(double)
+     */
+    public HarvestCropReport harvest(double bonusEarnings, RandomGenerator random) {
         // products produced and exp yield are calculated in plantedCrop's harvest() method
-        HarvestCropReport report = plantedCrop.harvest();
+        HarvestCropReport report = plantedCrop.harvest(random);
         double sellPrice = calculateSellPrice(report.getProductsProduced(), bonusEarnings);
         report.setProfit(sellPrice);
 
@@ -0,0 +1,89 @@
+package myfarm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures forking a game, as done by bots and planners trying out actions
+ * on copies of the farm, for farms where every tile is plowed and has a
+ * crop. Building the same game again tile by tile is measured next to it
+ * for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForkBenchmark {
+    @Param({"10x5", "100x100", "1000x1000"})
+    String size;
+
+    private int width;
+    private int height;
+    private MyFarm myFarm;
+
+    /**
+     * Creates the farm to be forked.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        width = Integer.parseInt(dimensions[0]);
+        height = Integer.parseInt(dimensions[1]);
+        myFarm = createPlantedFarm(width, height);
+    }
+
+    /**
+     * Measures forking the game.
+     * @return   The fork.
+     */
+    @Benchmark
+    public MyFarm fork() {
+        return myFarm.fork(myFarm.getRandom());
+    }
+
+    /**
+     * Measures building the same game tile by tile.
+     * @return   The game.
+     */
+    @Benchmark
+    public MyFarm buildTileByTile() {
+        return createPlantedFarm(width, height);
+    }
+
+    /**
+     * Creates a farm where every tile is plowed and has a crop, with some of
+     * them watered so that the crops end up in different states.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @return   The farm.
+     */
+    private static MyFarm createPlantedFarm(int width, int height) {
+        MyFarm myFarm = new MyFarm(width, height, 0, 0L);
+        Crop crop = new Turnip();
+
+        FarmState state = myFarm.getState();
+        for (int i = 0; i < state.size(); i++) {
+            state.setPlowed(i, true);
+            state.plantCrop(i, crop);
+            if (i % 2 == 0) {
+                state.addWater(i, crop.getWaterNeeded());
+            }
+        }
+        state.advanceDays(1);
+        return myFarm;
+    }
+}
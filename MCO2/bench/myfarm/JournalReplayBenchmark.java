@@ -0,0 +1,125 @@
+package myfarm;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Records a session of random commands on a 100x100 farm to a journal, then
+ * measures replaying the whole journal from its first checkpoint. The score
+ * is the time per replayed command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalReplayBenchmark {
+    private static final int COMMANDS = 200_000;
+
+    private Path directory;
+
+    /**
+     * Records the session, and checks that replaying it ends up with the
+     * same game.
+     * @throws IOException When the journal cannot be written or read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("myfarm-journal");
+        MyFarm recorded = record(directory);
+
+        MyFarm replayed = FarmJournal.replay(directory);
+        if (replayed.getState().getDay() != recorded.getState().getDay()
+                || replayed.getPlayerStats().getObjectCoins() != recorded.getPlayerStats().getObjectCoins()) {
+            throw new IllegalStateException("Replayed game does not match the recorded game");
+        }
+    }
+
+    /**
+     * Deletes the journal.
+     * @throws IOException When the journal cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Measures replaying the whole journal.
+     * @return   The replayed game.
+     * @throws IOException When the journal cannot be read.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS)
+    public MyFarm replay() throws IOException {
+        return FarmJournal.replay(directory);
+    }
+
+    /**
+     * Records a session of random commands on a new farm whose player has
+     * enough coins to never run out.
+     * @param directory   The directory of the journal.
+     * @return   The game after the session.
+     * @throws IOException When the journal cannot be written.
+     */
+    private static MyFarm record(Path directory) throws IOException {
+        MyFarm myFarm = new MyFarm(100, 100, 0, 0L);
+        myFarm.getPlayerStats().setObjectCoins(1e12);
+        FarmEngine engine = new FarmEngine(myFarm);
+        SplittableRandom random = new SplittableRandom(1);
+        CropDefinition[] definitions = CropDefinition.values();
+        TileActionResult result = new TileActionResult();
+
+        try (FarmJournal journal = FarmJournal.start(directory, myFarm)) {
+            engine.setJournal(journal);
+            FarmCommand command = new FarmCommand(null, -1, -1, null, null, 0);
+            for (int i = 0; i < COMMANDS; i++) {
+                command.setRow(random.nextInt(myFarm.getHeight()));
+                command.setColumn(random.nextInt(myFarm.getWidth()));
+                command.setCrop(null);
+                switch (random.nextInt(6)) {
+                    case 0 -> command.setAction(FarmAction.PLOW);
+                    case 1 -> {
+                        command.setAction(FarmAction.PLANT);
+                        command.setCrop(definitions[random.nextInt(definitions.length)].createCrop());
+                    }
+                    case 2 -> command.setAction(FarmAction.WATER);
+                    case 3 -> command.setAction(FarmAction.FERTILIZE);
+                    case 4 -> command.setAction(FarmAction.HARVEST);
+                    default -> command.setAction(random.nextInt(20) == 0 ? FarmAction.NEXT_DAY : FarmAction.DIG);
+                }
+
+                if (command.getAction().isTileAction()) {
+                    engine.execute(command, result);
+                } else {
+                    engine.execute(command);
+                }
+            }
+        }
+        return myFarm;
+    }
+}
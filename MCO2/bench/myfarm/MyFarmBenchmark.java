@@ -0,0 +1,266 @@
+package myfarm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hot paths of the model for farms of different sizes: moving
+ * on to the next day, harvesting, calculating sell prices, planting with and
+ * without the fruit tree adjacency check, and checking if the game should
+ * continue. Sizes are given in the form of WIDTHxHEIGHT, and other sizes can
+ * be run with {@code -p size=200x50}.
+ *
+ * Operations that use up the farm they are run on, such as harvesting every
+ * crop, are run once per iteration on a farm set up before the iteration,
+ * and their score is the time for the whole farm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MyFarmBenchmark {
+    /**
+     * Holds a mango and a counter to vary the number of products harvested.
+     */
+    @State(Scope.Thread)
+    public static class SellPrice {
+        Crop crop = new Mango();
+        int counter;
+    }
+
+    /**
+     * Holds a farm where every tile has a crop that has already withered,
+     * so that no crop is due on any of the following days.
+     */
+    @State(Scope.Thread)
+    public static class IdleFarm {
+        @Param({"10x5", "100x100", "1000x1000"})
+        String size;
+
+        MyFarm myFarm;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Crop crop = new Turnip();
+            myFarm = createPlantedFarm(size, crop);
+            myFarm.advanceDays(crop.getHarvestAge() + 1);
+        }
+    }
+
+    /**
+     * Holds a farm where every tile has a crop, all of which are due on the
+     * next day.
+     */
+    @State(Scope.Thread)
+    public static class DueFarm {
+        @Param({"10x5", "100x100", "1000x1000"})
+        String size;
+
+        MyFarm myFarm;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            Crop crop = new Turnip();
+            myFarm = createPlantedFarm(size, crop);
+            if (crop.getHarvestAge() > 1) {
+                myFarm.advanceDays(crop.getHarvestAge() - 1);
+            }
+        }
+    }
+
+    /**
+     * Holds a farm where every tile has a harvestable crop.
+     */
+    @State(Scope.Thread)
+    public static class HarvestableFarm {
+        @Param({"10x5", "100x100", "1000x1000"})
+        String size;
+
+        MyFarm myFarm;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            Crop crop = new Turnip();
+            myFarm = createPlantedFarm(size, crop);
+            myFarm.advanceDays(crop.getHarvestAge());
+        }
+    }
+
+    /**
+     * Holds a farm where every tile is plowed and empty, along with the crop
+     * to be planted on it. Apples are fruit trees, so planting them also
+     * goes through the adjacency check.
+     */
+    @State(Scope.Thread)
+    public static class PlowedFarm {
+        @Param({"10x5", "100x100", "1000x1000"})
+        String size;
+
+        @Param({"TURNIP", "APPLE"})
+        String crop;
+
+        MyFarm myFarm;
+        Crop cropToPlant;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            myFarm = createPlowedFarm(size);
+            cropToPlant = crop.equals("APPLE") ? new Apple() : new Turnip();
+        }
+    }
+
+    /**
+     * Holds a farm where every tile has a crop.
+     */
+    @State(Scope.Thread)
+    public static class PlantedFarm {
+        @Param({"10x5", "100x100", "1000x1000"})
+        String size;
+
+        MyFarm myFarm;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            myFarm = createPlantedFarm(size, new Turnip());
+        }
+    }
+
+    /**
+     * Measures calculating the sell price of a harvest. Does not depend on
+     * the size of the farm.
+     * @param state   The crop and counter.
+     * @return   The sell price.
+     */
+    @Benchmark
+    public double calculateSellPrice(SellPrice state) {
+        int products = (state.counter++ & 15) + 1;
+        return state.crop.calculateSellPrice(products, 1, products & 7, products & 3);
+    }
+
+    /**
+     * Measures moving on to the next day when every tile has a crop but none
+     * of them are due.
+     * @param farm   The farm.
+     * @return   The report of moving on to the next day.
+     */
+    @Benchmark
+    public ActionReport moveOnToNextDayIdle(IdleFarm farm) {
+        return farm.myFarm.moveOnToNextDay();
+    }
+
+    /**
+     * Measures moving on to the day that every crop in the farm is due.
+     * @param farm   The farm.
+     * @return   The report of moving on to the next day.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ActionReport moveOnToNextDayAllDue(DueFarm farm) {
+        return farm.myFarm.moveOnToNextDay();
+    }
+
+    /**
+     * Measures harvesting every tile of a farm where every crop is
+     * harvestable.
+     * @param farm   The farm.
+     * @return   The total profit of the harvests.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double harvest(HarvestableFarm farm) {
+        MyFarm myFarm = farm.myFarm;
+        double profit = 0;
+        for (int row = 0; row < myFarm.getHeight(); row++) {
+            for (int column = 0; column < myFarm.getWidth(); column++) {
+                profit += myFarm.getTile(row, column).harvest(0, myFarm.getRandom()).getProfit();
+            }
+        }
+        return profit;
+    }
+
+    /**
+     * Measures planting a crop on every tile of a plowed farm, one row after
+     * another. For fruit trees, this includes the tiles that are rejected by
+     * the adjacency check.
+     * @param farm   The farm and the crop to be planted.
+     * @return   The number of crops planted.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int plantCropOnTile(PlowedFarm farm) {
+        MyFarm myFarm = farm.myFarm;
+        int planted = 0;
+        for (int row = 0; row < myFarm.getHeight(); row++) {
+            for (int column = 0; column < myFarm.getWidth(); column++) {
+                if (myFarm.plantCropOnTile(myFarm.getTile(row, column), farm.cropToPlant).isSuccess()) {
+                    planted++;
+                }
+            }
+        }
+        return planted;
+    }
+
+    /**
+     * Measures checking the game-ending conditions on a farm where every tile
+     * has a crop.
+     * @param farm   The farm.
+     * @return   Whether the game should continue or not.
+     */
+    @Benchmark
+    public boolean shouldGameContinue(PlantedFarm farm) {
+        return farm.myFarm.shouldGameContinue();
+    }
+
+    /**
+     * Creates a farm without rocks where every tile is plowed, and gives the
+     * player enough money to plant on all of them.
+     * @param size   The size of the farm in the form of WIDTHxHEIGHT.
+     * @return   The farm.
+     */
+    static MyFarm createPlowedFarm(String size) {
+        String[] dimensions = size.split("x");
+        MyFarm myFarm = new MyFarm(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 0, 0L);
+        myFarm.getPlayerStats().setObjectCoins(Double.MAX_VALUE);
+
+        FarmState state = myFarm.getState();
+        for (int i = 0; i < state.size(); i++) {
+            state.setPlowed(i, true);
+        }
+        return myFarm;
+    }
+
+    /**
+     * Creates a farm where every tile is plowed and has the given crop, with
+     * enough water and fertilizer for it to become harvestable.
+     * @param size   The size of the farm in the form of WIDTHxHEIGHT.
+     * @param crop   The crop to be planted on every tile.
+     * @return   The farm.
+     */
+    static MyFarm createPlantedFarm(String size, Crop crop) {
+        MyFarm myFarm = createPlowedFarm(size);
+
+        FarmState state = myFarm.getState();
+        for (int i = 0; i < state.size(); i++) {
+            state.plantCrop(i, crop);
+            state.addWater(i, crop.getWaterNeeded());
+            state.addFertilizer(i, crop.getFertilizerNeeded());
+        }
+        return myFarm;
+    }
+}
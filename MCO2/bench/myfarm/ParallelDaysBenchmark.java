@@ -0,0 +1,68 @@
+package myfarm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures moving on to the day that crops become harvestable, sequentially
+ * and in parallel on the common pool, for farms of increasing size where
+ * every tile has a crop due on that day. Comparing the two for each number
+ * of due crops shows from which size going parallel is faster.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelDaysBenchmark {
+    @Param({"1024", "4096", "16384", "65536", "262144", "1048576", "4194304"})
+    int dueCrops;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    private final Crop crop = new Turnip();
+    private FarmState state;
+
+    /**
+     * Creates a farm where every tile is plowed and has a turnip, with every
+     * other crop watered so that half of them become harvestable and the
+     * other half wither.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        state = new FarmState(1024, dueCrops / 1024);
+        state.setParallelDays(parallel ? ForkJoinPool.commonPool() : null, 0);
+        for (int i = 0; i < state.size(); i++) {
+            state.setPlowed(i, true);
+            state.plantCrop(i, crop);
+            if (i % 2 == 0) {
+                state.addWater(i, crop.getWaterNeeded());
+            }
+        }
+    }
+
+    /**
+     * Measures moving on to the day that every crop is due.
+     * @return   The number of withered crops afterwards.
+     */
+    @Benchmark
+    public int advanceDays() {
+        state.advanceDays(crop.getHarvestAge());
+        return state.getWitheredCount();
+    }
+}
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Contains feedback for an action or option.
  */
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the apple crop.
  */
@@ -7,6 +9,6 @@ public class Apple extends Crop {
      * Creates an apple crop.
      */
     public Apple() {
-        super("Apple", "Fruit Tree", 200, 5, 25, 10, 10, 15, 7, 7, 5, 5, 1);
+        super(CropDefinition.APPLE);
     }
 }
@@ -0,0 +1,108 @@
+package myfarm;
+
+/**
+ * Stores the per-tile columns of a farm in primitive arrays on the heap.
+ */
+public class ArrayTileStore implements TileStore {
+    private int day;
+    private final byte[] tileFlags;
+    private final byte[] cropKinds;
+    private final byte[] cropFlags;
+    private final int[] plantedDays;
+    private final int[] water;
+    private final int[] fertilizer;
+
+    /**
+     * Creates a store for the given number of tiles.
+     * @param size   The number of tiles in the store.
+     */
+    public ArrayTileStore(int size) {
+        tileFlags = new byte[size];
+        cropKinds = new byte[size];
+        cropFlags = new byte[size];
+        plantedDays = new int[size];
+        water = new int[size];
+        fertilizer = new int[size];
+    }
+
+    /**
+     * Creates a copy of the given store.
+     * @param other   The store to be copied.
+     */
+    public ArrayTileStore(ArrayTileStore other) {
+        day = other.day;
+        tileFlags = other.tileFlags.clone();
+        cropKinds = other.cropKinds.clone();
+        cropFlags = other.cropFlags.clone();
+        plantedDays = other.plantedDays.clone();
+        water = other.water.clone();
+        fertilizer = other.fertilizer.clone();
+    }
+
+    @Override
+    public ArrayTileStore copy() {
+        return new ArrayTileStore(this);
+    }
+
+    @Override
+    public int size() {
+        return cropKinds.length;
+    }
+
+    @Override
+    public int getDay() {
+        return day;
+    }
+    @Override
+    public void setDay(int day) {
+        this.day = day;
+    }
+    @Override
+    public int getTileFlags(int index) {
+        return tileFlags[index];
+    }
+    @Override
+    public void setTileFlags(int index, int flags) {
+        tileFlags[index] = (byte)flags;
+    }
+    @Override
+    public int getCropKind(int index) {
+        return cropKinds[index];
+    }
+    @Override
+    public void setCropKind(int index, int kind) {
+        cropKinds[index] = (byte)kind;
+    }
+    @Override
+    public int getCropFlags(int index) {
+        return cropFlags[index];
+    }
+    @Override
+    public void setCropFlags(int index, int flags) {
+        cropFlags[index] = (byte)flags;
+    }
+    @Override
+    public int getPlantedDay(int index) {
+        return plantedDays[index];
+    }
+    @Override
+    public void setPlantedDay(int index, int day) {
+        plantedDays[index] = day;
+    }
+    @Override
+    public int getWater(int index) {
+        return water[index];
+    }
+    @Override
+    public void setWater(int index, int water) {
+        this.water[index] = water;
+    }
+    @Override
+    public int getFertilizer(int index) {
+        return fertilizer[index];
+    }
+    @Override
+    public void setFertilizer(int index, int fertilizer) {
+        this.fertilizer[index] = fertilizer;
+    }
+}
@@ -0,0 +1,120 @@
+package myfarm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contains the combined feedback for one action done on many tiles, such as
+ * the number of tiles it succeeded and failed on, why it failed, and the
+ * total money cost, experience, products, and profit.
+ */
+public class BatchActionReport extends TileActionReport {
+    private FarmAction action;
+    private int successCount;
+    private int failureCount;
+    private int[] outcomeCounts;
+    private int productsProduced;
+    private double profit;
+
+    /**
+     * Creates an empty batch action report for the given action.
+     * @param action   The action done on the tiles.
+     */
+    public BatchActionReport(FarmAction action) {
+        super(false, "No tiles selected.", 0, 0);
+        this.action = action;
+        this.outcomeCounts = new int[TileActionOutcome.values().length];
+    }
+
+    /**
+     * Adds the result of the action done on one tile to the totals. The
+     * batch is a success if the action succeeded on at least one tile.
+     * @param result   The result of the action done on one tile.
+     */
+    public void add(TileActionResult result) {
+        if (result.isSuccess()) {
+            successCount++;
+            success = true;
+        } else {
+            failureCount++;
+        }
+        outcomeCounts[result.getOutcome().ordinal()]++;
+
+        moneyCost += result.getMoneyCost();
+        expGained += result.getExpGained();
+        productsProduced += result.getProductsProduced();
+        profit += result.getProfit();
+    }
+
+    /**
+     * Sets the message to the number of tiles the action succeeded on once
+     * every tile has been added. The message is left as it is if no tiles
+     * were added.
+     */
+    public void finish() {
+        if (getTileCount() > 0) {
+            message = "Succeeded on " + successCount + " of " + getTileCount() + " tiles.";
+        }
+    }
+
+    @Override
+    public String getDetails() {
+        var s = super.getDetails()
+              + "Products Produced: " + productsProduced + "\n"
+              + "Profit: " + profit + "\n";
+
+        for (Map.Entry<String, Integer> failure : getFailures().entrySet()) {
+            s += "Failed on " + failure.getValue() + " tiles: " + failure.getKey() + "\n";
+        }
+
+        return s;
+    }
+
+    /**
+     * Returns the number of tiles the action was done on.
+     * @return   The number of tiles the action was done on.
+     */
+    public int getTileCount() {
+        return successCount + failureCount;
+    }
+
+    /**
+     * Returns the number of tiles the action failed on for each reason,
+     * in the order the outcomes are declared.
+     * @return   The number of failed tiles by feedback message.
+     */
+    public Map<String, Integer> getFailures() {
+        Map<String, Integer> failures = new LinkedHashMap<>();
+        for (TileActionOutcome outcome : TileActionOutcome.values()) {
+            if (!outcome.isSuccess() && outcomeCounts[outcome.ordinal()] > 0) {
+                failures.merge(outcome.getMessage(), outcomeCounts[outcome.ordinal()], Integer::sum);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the number of tiles that ended with the given outcome.
+     * @param outcome   The outcome to count.
+     * @return   The number of tiles that ended with the outcome.
+     */
+    public int getOutcomeCount(TileActionOutcome outcome) {
+        return outcomeCounts[outcome.ordinal()];
+    }
+
+    public FarmAction getAction() {
+        return action;
+    }
+    public int getSuccessCount() {
+        return successCount;
+    }
+    public int getFailureCount() {
+        return failureCount;
+    }
+    public int getProductsProduced() {
+        return productsProduced;
+    }
+    public double getProfit() {
+        return profit;
+    }
+}
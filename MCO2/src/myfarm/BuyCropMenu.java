@@ -0,0 +1,110 @@
+package myfarm;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.GridLayout;
+import java.util.Map;
+import java.util.Set;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextArea;
+import javax.swing.SwingConstants;
+
+/**
+ * Contains the data for the Buy Crop menu.
+ */
+public class BuyCropMenu extends JDialog {
+    public static final String MENU_ICON_PATH = "./assets/application/buy_crop_menu_icon.png";
+
+    public static final Map<CropName, Icon> SEEDS = IconUtils.resizeCropIcons("seeds", 75, 75);
+    public static final Icon NO_SEEDS = IconUtils.resize("./assets/crops/seeds/no_seeds.png", 75, 75);
+
+    private Set<CropType> plantableTypes;
+    private Crop selectedCrop;
+    private JTextArea selectedCropDescription;
+
+    /**
+     * Creates an instance of the menu.
+     * @param frame            The parent frame this menu will be modal to.
+     * @param plantableTypes   The crop types that can be planted on the
+     *                         selected tile. Crops of other types are
+     *                         disabled.
+     */
+    public BuyCropMenu(JFrame frame, Set<CropType> plantableTypes) {
+        super(frame, "Buy Crop", true);
+        this.plantableTypes = plantableTypes;
+        this.setIconImage(new ImageIcon(MENU_ICON_PATH).getImage());
+        this.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        this.setLayout(new BorderLayout());
+        this.setSize((new Dimension(1024, 576)));
+        this.setResizable(false);
+    }
+
+    /**
+     * Opens the Buy Crop menu and allows the player to select a crop to buy.
+     * @return   The crop the user wants to buy. Can be null.
+     */
+    public Crop openMenu() {
+        JLabel header = new JLabel("Buy a Crop", SwingConstants.CENTER);
+        header.setPreferredSize(new Dimension(1024, 50));
+
+        JPanel menuPanel = new JPanel(new GridLayout(1, 9, 5, 5));
+        menuPanel.setPreferredSize(new Dimension(1024, 150));
+        menuPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+        JPanel subPanel = new JPanel(new BorderLayout());
+        subPanel.add(menuPanel, BorderLayout.NORTH);
+
+        JButton nothingButton = new JButton(NO_SEEDS);
+
+        selectedCropDescription = new JTextArea();
+        selectedCropDescription.setOpaque(false);
+        selectedCropDescription.setEditable(false);
+        
+        subPanel.add(selectedCropDescription, BorderLayout.CENTER);
+        subPanel.add(Box.createRigidArea(new Dimension(425, 0)), BorderLayout.WEST);
+        subPanel.add(Box.createRigidArea(new Dimension(300, 0)), BorderLayout.EAST);
+        
+        JPanel bottomSubPanel = new JPanel(new FlowLayout());
+        JButton exitButton = new JButton("Exit");
+        exitButton.addActionListener(e -> this.setVisible(false));
+        bottomSubPanel.add(exitButton);
+        subPanel.add(bottomSubPanel, BorderLayout.SOUTH);
+
+        // crops are shown in the order they are defined in
+        for (CropDefinition definition : CropDefinition.values()) {
+            JButton buyCropButton = new JButton(SEEDS.get(definition.getName()));
+            buyCropButton.addActionListener(e -> {
+                selectedCrop = definition.createCrop();
+                selectedCropDescription.setText(selectedCrop.getBaseStats());
+            });
+            if (!plantableTypes.contains(definition.getType())) {
+                buyCropButton.setEnabled(false);
+                buyCropButton.setToolTipText("Cannot be planted on this tile.");
+            }
+            menuPanel.add(buyCropButton);
+        }
+
+        nothingButton.addActionListener(e -> {
+            selectedCrop = null;
+            selectedCropDescription.setText("Exit without buying anything.");
+        });
+
+        menuPanel.add(nothingButton);
+
+        this.add(header, BorderLayout.NORTH);
+        this.add(subPanel, BorderLayout.CENTER);
+        this.setLocationRelativeTo(null);
+        this.setVisible(true);
+
+        return selectedCrop;
+    }
+}
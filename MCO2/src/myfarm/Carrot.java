@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the carrot crop.
  */
@@ -7,6 +9,6 @@ public class Carrot extends Crop {
      * Creates a carrot crop.
      */
     public Carrot() {
-        super("Carrot", "Root Crop", 10, 9, 7.5, 3, 1, 2, 1, 2, 0, 1, 1);
+        super(CropDefinition.CARROT);
     }
 }
@@ -0,0 +1,121 @@
+package myfarm;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A crop that can be planted and sold for profit. A crop is only a handle to
+ * the definition of its kind; once planted, its age, water, fertilizer, and
+ * state are kept by the farm's {@link FarmState}, and every crop is planted
+ * as a new seed.
+ */
+public abstract class Crop {
+    // Crop description shared by every crop of its kind
+    protected final CropDefinition definition;
+
+    /**
+     * Creates a new crop of the given kind. Its water and fertilizer limits
+     * are the base limits of its kind; once planted on a farm, the farm's
+     * limit bonuses are added to them.
+     * @param definition   The data shared by every crop of its kind.
+     * @see FarmState#setLimitBonuses(int, int)
+     */
+    public Crop(CropDefinition definition) {
+        this.definition = definition;
+    }
+
+    /**
+     * Calculates the total sell price for a harvested crop of this kind given
+     * the amount of products produced, how much money is added per product
+     * sold, and the water and fertilizer count of the harvested crop.
+     * @param productsProduced    The amount of products harvested.
+     * @param bonusEarnings       Money added per product sold.
+     * @param currentWater        Water count of the harvested crop.
+     * @param currentFertilizer   Fertilizer count of the harvested crop.
+     * @return   Total selling price for the harvested crop.
+     * @see CropDefinition#calculateSellPrice(int, double, int, int)
+     */
+    public double calculateSellPrice(int productsProduced, double bonusEarnings, int currentWater,
+            int currentFertilizer) {
+        return definition.calculateSellPrice(productsProduced, bonusEarnings, currentWater, currentFertilizer);
+    }
+    
+    /**
+     * Randomly generates a number between the crop's minimum and maximum
+     * product yield, both inclusive.
+     * @param random   The random number generator to use.
+     * @return   The randomly generated yield.
+     * @see CropDefinition#getRandomYield(RandomGenerator)
+     */
+    public int getRandomYield(RandomGenerator random) {
+        return definition.getRandomYield(random);
+    }
+
+    /**
+     * Returns a multiline string containing the crop's purchasing details:
+     * name, type, base seed cost, base sell price, experience yield, harvest
+     * time, product yield, water and fertilizer requirements, premium rate,
+     * and other crop type-specific details.
+     * @return   A multiline string containing the crop's base stats.
+     */
+    public String getBaseStats() {
+        var s = "Crop Name: " + getName() + "\n"
+              + "Crop Type: " + getType() + "\n"
+              + "Base Seed Cost: " + getBaseSeedCost() + "\n"
+              + "Base Sell Price (per product sold): " + getBaseSellPrice() + "\n"
+              + "Experience Yield: " + getExpYield() + "\n"
+              + "Harvest Time (in days): " + getHarvestAge() + "\n"
+              + "Yield: " + getMinYield() + "-" + getMaxYield() + "\n"
+              + "Water Requirements: " + getWaterNeeded() + " (" + getWaterLimit() + ")\n"
+              + "Fertilizer Requirements: " + getFertilizerNeeded() + " (" + getFertilizerLimit() + ")\n"
+              + "Premium Rate: " + getPremiumRate() + "\n";
+        
+        if (getType().needsFreeAdjacentTiles()) {
+            s += "This crop requires free adjacent spaces to plant.\n";
+        }
+        
+        return s;
+    }
+
+    public CropDefinition getDefinition() {
+        return definition;
+    }
+    public CropName getName() {
+        return definition.getName();
+    }
+    public CropType getType() {
+        return definition.getType();
+    }
+    public double getBaseSeedCost() {
+        return definition.getBaseSeedCost();
+    }
+    public double getBaseSellPrice() {
+        return definition.getBaseSellPrice();
+    }
+    public double getExpYield() {
+        return definition.getExpYield();
+    }
+    public int getHarvestAge() {
+        return definition.getHarvestAge();
+    }
+    public int getMinYield() {
+        return definition.getMinYield();
+    }
+    public int getMaxYield() {
+        return definition.getMaxYield();
+    }
+    public int getWaterNeeded() {
+        return definition.getWaterNeeded();
+    }
+    public int getWaterLimit() {
+        return definition.getWaterLimit();
+    }
+    public int getFertilizerNeeded() {
+        return definition.getFertilizerNeeded();
+    }
+    public int getFertilizerLimit() {
+        return definition.getFertilizerLimit();
+    }
+    public double getPremiumRate() {
+        return definition.getPremiumRate();
+    }
+}
@@ -0,0 +1,184 @@
+package myfarm;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Holds the data shared by every crop of the same kind, such as its name,
+ * type, costs, yields, and requirements. The growth state of each planted
+ * crop is kept by the farm's {@link FarmState}.
+ */
+public enum CropDefinition {
+    /**
+     * Data for the turnip root crop.
+     */
+    TURNIP(CropName.TURNIP, CropType.ROOT_CROP, 5, 6, 5, 2, 1, 2, 1, 2, 0, 1, 1),
+
+    /**
+     * Data for the carrot root crop.
+     */
+    CARROT(CropName.CARROT, CropType.ROOT_CROP, 10, 9, 7.5, 3, 1, 2, 1, 2, 0, 1, 1),
+
+    /**
+     * Data for the potato root crop.
+     */
+    POTATO(CropName.POTATO, CropType.ROOT_CROP, 20, 3, 12.5, 5, 1, 10, 3, 4, 1, 2, 1),
+
+    /**
+     * Data for the rose flower.
+     */
+    ROSE(CropName.ROSE, CropType.FLOWER, 5, 5, 2.5, 1, 1, 1, 1, 2, 0, 1, 1.1),
+
+    /**
+     * Data for the tulips flower.
+     */
+    TULIPS(CropName.TULIPS, CropType.FLOWER, 10, 9, 5, 2, 1, 1, 2, 3, 0, 1, 1.1),
+
+    /**
+     * Data for the sunflower flower.
+     */
+    SUNFLOWER(CropName.SUNFLOWER, CropType.FLOWER, 20, 19, 7.5, 3, 1, 1, 2, 3, 1, 2, 1.1),
+
+    /**
+     * Data for the mango fruit tree.
+     */
+    MANGO(CropName.MANGO, CropType.FRUIT_TREE, 100, 8, 25, 10, 5, 15, 7, 7, 4, 4, 1),
+
+    /**
+     * Data for the apple fruit tree.
+     */
+    APPLE(CropName.APPLE, CropType.FRUIT_TREE, 200, 5, 25, 10, 10, 15, 7, 7, 5, 5, 1);
+
+    private final CropName name;
+    private final CropType type;
+    private final double baseSeedCost;
+    private final double baseSellPrice;
+    private final double expYield;
+    private final int harvestAge;
+    private final int minYield;
+    private final int maxYield;
+    private final int waterNeeded;
+    private final int waterLimit;
+    private final int fertilizerNeeded;
+    private final int fertilizerLimit;
+    private final double premiumRate;
+
+    /**
+     * Creates the data for a crop.
+     * @param name               Name of the crop.
+     * @param type               Type of the crop.
+     * @param baseSeedCost       Base buy cost when purchasing.
+     * @param baseSellPrice      Base sell price for each product sold.
+     * @param expYield           Experience given per product when harvested.
+     * @param harvestAge         Days before a crop can become harvestable.
+     * @param minYield           Lower bound for products produced.
+     * @param maxYield           Upper bound for products produced.
+     * @param waterNeeded        Required water to become harvestable.
+     * @param waterLimit         Base upper bound for the water count.
+     * @param fertilizerNeeded   Required fertilizer to become harvestable.
+     * @param fertilizerLimit    Base upper bound for the fertilizer count.
+     * @param premiumRate        Premium rate for each piece sold.
+     */
+    private CropDefinition(CropName name, CropType type, double baseSeedCost, double baseSellPrice, double expYield,
+            int harvestAge, int minYield, int maxYield, int waterNeeded, int waterLimit, int fertilizerNeeded,
+            int fertilizerLimit, double premiumRate) {
+        this.name = name;
+        this.type = type;
+        this.baseSeedCost = baseSeedCost;
+        this.baseSellPrice = baseSellPrice;
+        this.expYield = expYield;
+        this.harvestAge = harvestAge;
+        this.minYield = minYield;
+        this.maxYield = maxYield;
+        this.waterNeeded = waterNeeded;
+        this.waterLimit = waterLimit;
+        this.fertilizerNeeded = fertilizerNeeded;
+        this.fertilizerLimit = fertilizerLimit;
+        this.premiumRate = premiumRate;
+    }
+
+    /**
+     * Calculates the total sell price for a harvested crop of this kind given
+     * the amount of products produced, how much money is added per product
+     * sold, and the water and fertilizer count of the harvested crop.
+     * @param productsProduced    The amount of products harvested.
+     * @param bonusEarnings       Money added per product sold.
+     * @param currentWater        Water count of the harvested crop.
+     * @param currentFertilizer   Fertilizer count of the harvested crop.
+     * @return   Total selling price for the harvested crop.
+     */
+    public double calculateSellPrice(int productsProduced, double bonusEarnings, int currentWater,
+            int currentFertilizer) {
+        double basePrice = productsProduced * (baseSellPrice + bonusEarnings);
+        double waterBonus = basePrice * 0.2 * (currentWater - 1);
+        double fertilizerBonus = basePrice * 0.5 * currentFertilizer;
+        double finalPrice = (basePrice + waterBonus + fertilizerBonus) * premiumRate;
+        return finalPrice;
+    }
+
+    /**
+     * Randomly generates a number between the crop's minimum and maximum
+     * product yield, both inclusive.
+     * @param random   The random number generator to use.
+     * @return   The randomly generated yield.
+     */
+    public int getRandomYield(RandomGenerator random) {
+        return random.nextInt(minYield, maxYield + 1);
+    }
+
+    /**
+     * Creates a new, unplanted crop of this kind.
+     * @return   The new crop.
+     */
+    public Crop createCrop() {
+        return switch (this) {
+            case TURNIP -> new Turnip();
+            case CARROT -> new Carrot();
+            case POTATO -> new Potato();
+            case ROSE -> new Rose();
+            case TULIPS -> new Tulips();
+            case SUNFLOWER -> new Sunflower();
+            case MANGO -> new Mango();
+            case APPLE -> new Apple();
+        };
+    }
+
+    public CropName getName() {
+        return name;
+    }
+    public CropType getType() {
+        return type;
+    }
+    public double getBaseSeedCost() {
+        return baseSeedCost;
+    }
+    public double getBaseSellPrice() {
+        return baseSellPrice;
+    }
+    public double getExpYield() {
+        return expYield;
+    }
+    public int getHarvestAge() {
+        return harvestAge;
+    }
+    public int getMinYield() {
+        return minYield;
+    }
+    public int getMaxYield() {
+        return maxYield;
+    }
+    public int getWaterNeeded() {
+        return waterNeeded;
+    }
+    public int getWaterLimit() {
+        return waterLimit;
+    }
+    public int getFertilizerNeeded() {
+        return fertilizerNeeded;
+    }
+    public int getFertilizerLimit() {
+        return fertilizerLimit;
+    }
+    public double getPremiumRate() {
+        return premiumRate;
+    }
+}
@@ -0,0 +1,68 @@
+package myfarm;
+
+/**
+ * Holds the names of each crop.
+ */
+public enum CropName {
+    /**
+     * Name of the turnip root crop.
+     */
+    TURNIP("Turnip"),
+
+    /**
+     * Name of the carrot root crop.
+     */
+    CARROT("Carrot"),
+
+    /**
+     * Name of the potato root crop.
+     */
+    POTATO("Potato"),
+
+    /**
+     * Name of the rose flower.
+     */
+    ROSE("Rose"),
+
+    /**
+     * Name of the tulips flower.
+     */
+    TULIPS("Tulips"),
+
+    /**
+     * Name of the sunflower flower.
+     */
+    SUNFLOWER("Sunflower"),
+
+    /**
+     * Name of the mango fruit tree.
+     */
+    MANGO("Mango"),
+
+    /**
+     * Name of the apple fruit tree.
+     */
+    APPLE("Apple");
+
+    private final String stringName;
+
+    /**
+     * Creates a set string name for a crop.
+     * @param stringName   The string name of the crop.
+     */
+    private CropName(String stringName) {
+        this.stringName = stringName;
+    }
+
+    /**
+     * Returns the string name of the crop.
+     */
+    @Override
+    public String toString() {
+        return stringName;
+    }
+
+    public String getStringName() {
+        return stringName;
+    }
+}
@@ -0,0 +1,51 @@
+package myfarm;
+
+/**
+ * Holds the types of crops and the planting rules of each type.
+ */
+public enum CropType {
+    /**
+     * The root crop type.
+     */
+    ROOT_CROP("Root Crop", false),
+
+    /**
+     * The flower crop type.
+     */
+    FLOWER("Flower", false),
+
+    /**
+     * The fruit tree crop type, which needs free adjacent tiles to plant.
+     */
+    FRUIT_TREE("Fruit Tree", true);
+
+    private final String stringName;
+    private final boolean needsFreeAdjacentTiles;
+
+    /**
+     * Creates a crop type.
+     * @param stringName               The string name of the crop type.
+     * @param needsFreeAdjacentTiles   Whether crops of the type can only be
+     *                                 planted away from the edge with all 8
+     *                                 adjacent tiles unoccupied.
+     */
+    private CropType(String stringName, boolean needsFreeAdjacentTiles) {
+        this.stringName = stringName;
+        this.needsFreeAdjacentTiles = needsFreeAdjacentTiles;
+    }
+
+    /**
+     * Returns the string name of the crop type.
+     */
+    @Override
+    public String toString() {
+        return stringName;
+    }
+
+    public String getStringName() {
+        return stringName;
+    }
+    public boolean needsFreeAdjacentTiles() {
+        return needsFreeAdjacentTiles;
+    }
+}
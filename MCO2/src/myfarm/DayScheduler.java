@@ -0,0 +1,162 @@
+package myfarm;
+
+import java.util.Arrays;
+
+/**
+ * A timing wheel that holds the indices of the tiles that have to be looked
+ * at on a given day. Each bucket of the wheel holds the tiles due on one day,
+ * and since every day scheduled is at most one horizon away from the current
+ * day, buckets are reused as days go by.
+ */
+public class DayScheduler {
+    private int[][] buckets;
+    private int[] counts;
+    private int mask;
+    private int currentDay;
+
+    /**
+     * Creates a scheduler that can hold days up to the given number of days
+     * after the current day.
+     * @param horizon      The number of days ahead that can be scheduled.
+     * @param currentDay   The current day.
+     */
+    public DayScheduler(int horizon, int currentDay) {
+        int capacity = Integer.highestOneBit(Math.max(horizon, 1)) << 1;
+        this.buckets = new int[capacity][];
+        this.counts = new int[capacity];
+        this.mask = capacity - 1;
+        this.currentDay = currentDay;
+        for (int i = 0; i < capacity; i++) {
+            buckets[i] = new int[4];
+        }
+    }
+
+    /**
+     * Creates a copy of the given scheduler, with the same tiles due on the
+     * same days.
+     * @param other   The scheduler to be copied.
+     */
+    public DayScheduler(DayScheduler other) {
+        this.buckets = new int[other.buckets.length][];
+        this.counts = other.counts.clone();
+        this.mask = other.mask;
+        this.currentDay = other.currentDay;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = Arrays.copyOf(other.buckets[i], Math.max(counts[i], 4));
+        }
+    }
+
+    /**
+     * Schedules the tile at the given index to be looked at on the given day.
+     * Days that have already passed are ignored.
+     * @param day     The day the tile is due.
+     * @param index   The index of the tile.
+     */
+    public void schedule(int day, int index) {
+        if (day <= currentDay) {
+            return;
+        }
+
+        ensureHorizon(day - currentDay);
+        int bucket = day & mask;
+        if (counts[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], counts[bucket] * 2);
+        }
+        buckets[bucket][counts[bucket]++] = index;
+    }
+
+    /**
+     * Moves on to the next day and returns the number of tiles due on it.
+     * The due tiles can be read using {@link #getDueTiles()} until the next
+     * call to this method.
+     * @return   The number of tiles due on the new current day.
+     */
+    public int advance() {
+        counts[currentDay & mask] = 0; // the previous day's tiles are done
+        currentDay++;
+        return counts[currentDay & mask];
+    }
+
+    /**
+     * Returns the number of tiles due within the given number of days after
+     * the current day.
+     * @param days   The number of days to look ahead.
+     * @return   The number of tiles due within those days.
+     */
+    public int countDue(int days) {
+        int steps = Math.min(days, mask + 1);
+        int count = 0;
+        for (int step = 1; step <= steps; step++) {
+            count += counts[(currentDay + step) & mask];
+        }
+        return count;
+    }
+
+    /**
+     * Jumps to the given day without looking at the days in between. Used
+     * once every tile scheduled so far has already been taken care of, such
+     * as after every bucket of the wheel has been gone through.
+     * @param day   The day to jump to. Must not be before the current day.
+     */
+    public void skipTo(int day) {
+        if (day == currentDay) {
+            return;
+        }
+
+        Arrays.fill(counts, 0);
+        currentDay = day;
+    }
+
+    /**
+     * Returns the tiles due on the current day. Only the first
+     * {@link #getDueCount()} elements are valid.
+     * @return   The tiles due on the current day.
+     */
+    public int[] getDueTiles() {
+        return buckets[currentDay & mask];
+    }
+
+    /**
+     * Returns the number of tiles due on the current day.
+     * @return   The number of tiles due on the current day.
+     */
+    public int getDueCount() {
+        return counts[currentDay & mask];
+    }
+
+    /**
+     * Grows the wheel if needed so that it can hold days up to the given
+     * number of days after the current day. Each bucket is moved to its new
+     * position based on the day it holds.
+     * @param horizon   The number of days ahead that can be scheduled.
+     */
+    public void ensureHorizon(int horizon) {
+        if (horizon <= mask) {
+            return;
+        }
+
+        int capacity = Integer.highestOneBit(horizon) << 1;
+        int[][] newBuckets = new int[capacity][];
+        int[] newCounts = new int[capacity];
+        for (int day = currentDay; day <= currentDay + mask; day++) {
+            newBuckets[day & (capacity - 1)] = buckets[day & mask];
+            newCounts[day & (capacity - 1)] = counts[day & mask];
+        }
+        for (int i = 0; i < capacity; i++) {
+            if (newBuckets[i] == null) {
+                newBuckets[i] = new int[4];
+            }
+        }
+
+        buckets = newBuckets;
+        counts = newCounts;
+        mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+    public int getCurrentDay() {
+        return currentDay;
+    }
+}
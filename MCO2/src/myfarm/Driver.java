@@ -0,0 +1,115 @@
+package myfarm;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+
+/**
+ * The class that contains {@code main()}, the main entrypoint of the program.
+ */
+public class Driver {
+    
+    /**
+     * Starts the program.
+     * @param args   Optionally, the seed of the farm's random number
+     *               generator, so that a game can be played out again.
+     * @throws IOException When the player provides invalid input data.
+     */
+    public static void main(String[] args) throws IOException {
+        Long seed = null;
+        if (args.length > 0) {
+            try {
+                seed = Long.valueOf(args[0]);
+            } catch (NumberFormatException e) {
+                System.err.println("The seed has to be a whole number: " + args[0]);
+                System.err.println("Usage: java myfarm.Driver [seed]");
+                System.exit(1);
+            }
+        }
+        startGame(seed);
+    }
+
+    /**
+     * Starts the game.
+     * @param seed   The seed of the farm's random number generator. Can be
+     *               null to use a random seed.
+     * @throws IOException When the player provides invalid input data.
+     */
+    private static void startGame(Long seed) throws IOException {
+        RandomGenerator random = seed == null ? new SplittableRandom() : new SplittableRandom(seed);
+        MyFarm model = loadSavedGame(random);
+        if (model == null) {
+            int numberOfRocks = getNumberOfRocks();
+            model = new MyFarm(MyFarm.DEFAULT_WIDTH, MyFarm.DEFAULT_HEIGHT, numberOfRocks, random);
+        }
+        MyFarmGUI gui = new MyFarmGUI(model.getWidth(), model.getHeight());
+        MyFarmController controller = new MyFarmController(model, gui);
+    }
+
+    /**
+     * Asks the player if they want to continue their saved game, if there is
+     * one, and loads it.
+     * @param random   The random number generator of the loaded game.
+     * @return
+     *    The saved game   if the player continues it.
+     *    null             if there is no saved game, the player starts a new
+     *                     game, or the saved game cannot be loaded.
+     */
+    private static MyFarm loadSavedGame(RandomGenerator random) {
+        if (!Files.exists(FarmSaveFile.DEFAULT_PATH)) {
+            return null;
+        }
+
+        int response = JOptionPane.showConfirmDialog(null, "Continue your saved game?", "Saved game found",
+                JOptionPane.YES_NO_OPTION);
+        if (response != JOptionPane.YES_OPTION) {
+            return null;
+        }
+
+        try {
+            return FarmSaveFile.load(FarmSaveFile.DEFAULT_PATH, random);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(null, "Could not load the saved game: " + e.getMessage()
+                    + "\nStarting a new game instead.", "Load failed", JOptionPane.ERROR_MESSAGE);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the number of rocks to initialize the game with from the player
+     * via file chooser.
+     * @return The number of rocks to initialize the game with. It is no less
+     * than 10 and no more than 30.
+     * @throws IOException When the player provides invalid input data.
+     */
+    private static int getNumberOfRocks() throws IOException {
+        String msg = "Select a plaintext file that contains the number of rocks to initialize the game with.\n"
+                   + "It must be no less than 10 and no more than 30.";
+
+        JOptionPane.showMessageDialog(null, msg, "Select input file", JOptionPane.INFORMATION_MESSAGE);
+        
+        JFileChooser fileChooser = new JFileChooser(new File("."));
+        int response = fileChooser.showOpenDialog(fileChooser);
+        if (response != JFileChooser.APPROVE_OPTION) {
+            throw new IOException("Missing input file for initial rock count");
+        }
+
+        File file = new File(fileChooser.getSelectedFile().getAbsolutePath());
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        int numberOfRocks = Integer.parseInt(reader.readLine());
+        reader.close();
+
+        if (numberOfRocks < 10 || numberOfRocks > 30) {
+            throw new IllegalArgumentException("Number of rocks has to be less than 10 and greater than 30");
+        }
+
+        return numberOfRocks;
+    }
+}
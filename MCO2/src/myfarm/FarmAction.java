@@ -0,0 +1,77 @@
+package myfarm;
+
+/**
+ * Holds the actions that can be performed on the farm.
+ */
+public enum FarmAction {
+    /**
+     * Plows a tile.
+     */
+    PLOW,
+
+    /**
+     * Plants a crop on a tile.
+     */
+    PLANT,
+
+    /**
+     * Harvests the crop on a tile.
+     */
+    HARVEST,
+
+    /**
+     * Waters the crop on a tile.
+     */
+    WATER,
+
+    /**
+     * Fertilizes the crop on a tile.
+     */
+    FERTILIZE,
+
+    /**
+     * Uses the shovel on a tile.
+     */
+    DIG,
+
+    /**
+     * Mines the rock on a tile.
+     */
+    MINE,
+
+    /**
+     * Moves on to the next day.
+     */
+    NEXT_DAY,
+
+    /**
+     * Moves on by a number of days at once.
+     */
+    ADVANCE_DAYS,
+
+    /**
+     * Registers for a new farmer type/rank.
+     */
+    REGISTER,
+
+    /**
+     * Harvests every harvestable crop on the farm.
+     */
+    HARVEST_ALL,
+
+    /**
+     * Digs up every withered crop on the farm.
+     */
+    CLEAR_WITHERED;
+
+    /**
+     * Returns whether the action is done on a single tile.
+     * @return   Whether the action is done on a single tile.
+     */
+    public boolean isTileAction() {
+        return switch (this) {
+            case NEXT_DAY, ADVANCE_DAYS, REGISTER, HARVEST_ALL, CLEAR_WITHERED -> false;
+            default -> true;
+        };
+    }
+}
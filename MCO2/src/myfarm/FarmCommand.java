@@ -0,0 +1,189 @@
+package myfarm;
+
+/**
+ * A single typed command to be executed on the farm, such as plowing the
+ * tile at a given row and column.
+ */
+public class FarmCommand {
+    private FarmAction action;
+    private int row;
+    private int column;
+    private Crop crop;
+    private Stats rank;
+    private int days;
+
+    /**
+     * Creates a command and initializes its action, target tile position, and
+     * the crop, farmer type/rank, or number of days it uses, if any.
+     * @param action   The action to be performed.
+     * @param row      Row position of the target tile.
+     * @param column   Column position of the target tile.
+     * @param crop     The crop to be planted. Can be null.
+     * @param rank     The farmer type/rank to register for. Can be null.
+     * @param days     The number of days to move on by, if any.
+     */
+    public FarmCommand(FarmAction action, int row, int column, Crop crop, Stats rank, int days) {
+        this.action = action;
+        this.row = row;
+        this.column = column;
+        this.crop = crop;
+        this.rank = rank;
+        this.days = days;
+    }
+
+    /**
+     * Creates a command that plows the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The plow command.
+     */
+    public static FarmCommand plow(int row, int column) {
+        return new FarmCommand(FarmAction.PLOW, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that plants the given crop on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @param crop     The crop to be planted.
+     * @return   The plant command.
+     */
+    public static FarmCommand plant(int row, int column, Crop crop) {
+        return new FarmCommand(FarmAction.PLANT, row, column, crop, null, 0);
+    }
+
+    /**
+     * Creates a command that harvests the crop on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The harvest command.
+     */
+    public static FarmCommand harvest(int row, int column) {
+        return new FarmCommand(FarmAction.HARVEST, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that waters the crop on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The water command.
+     */
+    public static FarmCommand water(int row, int column) {
+        return new FarmCommand(FarmAction.WATER, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that fertilizes the crop on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The fertilize command.
+     */
+    public static FarmCommand fertilize(int row, int column) {
+        return new FarmCommand(FarmAction.FERTILIZE, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that uses the shovel on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The dig command.
+     */
+    public static FarmCommand dig(int row, int column) {
+        return new FarmCommand(FarmAction.DIG, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that mines the rock on the tile at the given
+     * position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The mine command.
+     */
+    public static FarmCommand mine(int row, int column) {
+        return new FarmCommand(FarmAction.MINE, row, column, null, null, 0);
+    }
+
+    /**
+     * Creates a command that moves on to the next day.
+     * @return   The next day command.
+     */
+    public static FarmCommand nextDay() {
+        return new FarmCommand(FarmAction.NEXT_DAY, -1, -1, null, null, 0);
+    }
+
+    /**
+     * Creates a command that moves on by the given number of days at once.
+     * @param days   The number of days to move on by.
+     * @return   The advance days command.
+     */
+    public static FarmCommand advanceDays(int days) {
+        return new FarmCommand(FarmAction.ADVANCE_DAYS, -1, -1, null, null, days);
+    }
+
+    /**
+     * Creates a command that registers for the given farmer type/rank.
+     * @param rank   The farmer type/rank to register for.
+     * @return   The register command.
+     */
+    public static FarmCommand register(Stats rank) {
+        return new FarmCommand(FarmAction.REGISTER, -1, -1, null, rank, 0);
+    }
+
+    /**
+     * Creates a command that harvests every harvestable crop on the farm.
+     * @return   The harvest all command.
+     */
+    public static FarmCommand harvestAll() {
+        return new FarmCommand(FarmAction.HARVEST_ALL, -1, -1, null, null, 0);
+    }
+
+    /**
+     * Creates a command that digs up every withered crop on the farm.
+     * @return   The clear withered command.
+     */
+    public static FarmCommand clearAllWithered() {
+        return new FarmCommand(FarmAction.CLEAR_WITHERED, -1, -1, null, null, 0);
+    }
+
+    public FarmAction getAction() {
+        return action;
+    }
+    public void setAction(FarmAction action) {
+        this.action = action;
+    }
+    public int getRow() {
+        return row;
+    }
+    public void setRow(int row) {
+        this.row = row;
+    }
+    public int getColumn() {
+        return column;
+    }
+    public void setColumn(int column) {
+        this.column = column;
+    }
+    public Crop getCrop() {
+        return crop;
+    }
+    public void setCrop(Crop crop) {
+        this.crop = crop;
+    }
+    public Stats getRank() {
+        return rank;
+    }
+    public void setRank(Stats rank) {
+        this.rank = rank;
+    }
+    public int getDays() {
+        return days;
+    }
+    public void setDays(int days) {
+        this.days = days;
+    }
+}
@@ -0,0 +1,304 @@
+package myfarm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Drives the model without a GUI. Executes typed commands on the farm,
+ * updates the player's statistics from each report, and checks the
+ * game-ending conditions afterwards, the same way the controller does for
+ * each button press. If a journal is set, each command is recorded to it
+ * once it has been executed, so that commands rejected with an exception,
+ * such as an area outside the farm, are never recorded. If publishing
+ * snapshots is turned on, a snapshot of the game is published after each
+ * command for other threads to read.
+ */
+public class FarmEngine {
+    public static final String GAME_HAS_ENDED = "The game has ended.";
+
+    private MyFarm myFarm;
+    private FarmJournal journal;
+    private boolean publishingSnapshots;
+
+    /**
+     * Creates an engine that drives the given model.
+     * @param myFarm   The model to be driven.
+     */
+    public FarmEngine(MyFarm myFarm) {
+        this.myFarm = myFarm;
+    }
+
+    /**
+     * Executes the given command on the farm, updates the player's stats
+     * from the resulting report, and checks if the game should continue.
+     * Commands given after the game has ended are rejected.
+     * @param command   The command to be executed.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport execute(FarmCommand command) {
+        if (!myFarm.isRunning()) {
+            return new ActionReport(false, GAME_HAS_ENDED, 0);
+        }
+        Tile tile = myFarm.getTile(command.getRow(), command.getColumn());
+        ActionReport report = switch (command.getAction()) {
+            case PLOW -> myFarm.plowTile(tile);
+            case PLANT -> myFarm.plantCropOnTile(tile, command.getCrop());
+            case HARVEST -> myFarm.harvestCropFromTile(tile);
+            case WATER -> myFarm.waterCropOnTile(tile);
+            case FERTILIZE -> myFarm.fertilizeCropOnTile(tile);
+            case DIG -> myFarm.digSomethingOnTile(tile);
+            case MINE -> myFarm.mineRockFromTile(tile);
+            case NEXT_DAY -> myFarm.moveOnToNextDay();
+            case ADVANCE_DAYS -> myFarm.advanceDays(command.getDays());
+            case REGISTER -> myFarm.registerForRank(command.getRank());
+            case HARVEST_ALL -> myFarm.harvestAll();
+            case CLEAR_WITHERED -> myFarm.clearAllWithered();
+        };
+        record(command);
+
+        if (command.getAction() != FarmAction.NEXT_DAY && command.getAction() != FarmAction.ADVANCE_DAYS) {
+            myFarm.updatePlayerStatsFromReport(report);
+        }
+        myFarm.shouldGameContinue();
+        checkpointIfDue();
+        publishSnapshot();
+        return report;
+    }
+
+    /**
+     * Executes the given tile command the same way as
+     * {@link #execute(FarmCommand)}, but writes the result to the given
+     * result instead of creating a report.
+     * @param command   The tile command to be executed.
+     * @param result    The result to be written to.
+     * @return   Whether the action was a success or not.
+     */
+    public boolean execute(FarmCommand command, TileActionResult result) {
+        if (!myFarm.isRunning()) {
+            return result.reset(TileActionOutcome.GAME_HAS_ENDED);
+        }
+        Tile tile = myFarm.getTile(command.getRow(), command.getColumn());
+        boolean success = myFarm.doActionOnTile(command.getAction(), tile, command.getCrop(), result);
+        record(command);
+        myFarm.updatePlayerStatsFromResult(result);
+        myFarm.shouldGameContinue();
+        checkpointIfDue();
+        publishSnapshot();
+        return success;
+    }
+
+    /**
+     * Does the given tile action on every tile in the rectangle between the
+     * given corners, both inclusive. The player's stats are updated and the
+     * game-ending conditions are checked once for the whole area. Actions
+     * given after the game has ended are rejected.
+     * @param action       The tile action to be done.
+     * @param fromRow      Row position of the first corner.
+     * @param fromColumn   Column position of the first corner.
+     * @param toRow        Row position of the opposite corner.
+     * @param toColumn     Column position of the opposite corner.
+     * @param crop         The crop to be planted. Only used for planting.
+     * @return   A report containing the combined feedback about the action.
+     */
+    public ActionReport executeOnArea(FarmAction action, int fromRow, int fromColumn, int toRow, int toColumn,
+            Crop crop) {
+        if (!myFarm.isRunning()) {
+            return new ActionReport(false, GAME_HAS_ENDED, 0);
+        }
+
+        BatchActionReport report = myFarm.doActionOnArea(action, fromRow, fromColumn, toRow, toColumn, crop);
+        if (journal != null) {
+            try {
+                journal.recordArea(action, fromRow, fromColumn, toRow, toColumn, crop);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        myFarm.updatePlayerStatsFromReport(report);
+        myFarm.shouldGameContinue();
+        checkpointIfDue();
+        publishSnapshot();
+        return report;
+    }
+
+    /**
+     * Records the given command to the journal, if there is one.
+     * @param command   The command to be recorded.
+     */
+    private void record(FarmCommand command) {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.record(command);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the game, if publishing snapshots is turned on.
+     * @see MyFarm#publishSnapshot()
+     */
+    private void publishSnapshot() {
+        if (publishingSnapshots) {
+            myFarm.publishSnapshot();
+        }
+    }
+
+    /**
+     * Checkpoints the game to the journal, if there is one and a checkpoint
+     * is due.
+     */
+    private void checkpointIfDue() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.checkpointIfDue(myFarm);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Plows the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport plow(int row, int column) {
+        return execute(FarmCommand.plow(row, column));
+    }
+
+    /**
+     * Plants the given crop on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @param crop     The crop to be planted.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport plant(int row, int column, Crop crop) {
+        return execute(FarmCommand.plant(row, column, crop));
+    }
+
+    /**
+     * Harvests the crop on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport harvest(int row, int column) {
+        return execute(FarmCommand.harvest(row, column));
+    }
+
+    /**
+     * Waters the crop on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport water(int row, int column) {
+        return execute(FarmCommand.water(row, column));
+    }
+
+    /**
+     * Fertilizes the crop on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport fertilize(int row, int column) {
+        return execute(FarmCommand.fertilize(row, column));
+    }
+
+    /**
+     * Uses the shovel on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport dig(int row, int column) {
+        return execute(FarmCommand.dig(row, column));
+    }
+
+    /**
+     * Mines the rock on the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport mine(int row, int column) {
+        return execute(FarmCommand.mine(row, column));
+    }
+
+    /**
+     * Moves on to the next day.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport nextDay() {
+        return execute(FarmCommand.nextDay());
+    }
+
+    /**
+     * Moves on by the given number of days at once.
+     * @param days   The number of days to move on by.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport advanceDays(int days) {
+        return execute(FarmCommand.advanceDays(days));
+    }
+
+    /**
+     * Registers for the given farmer type/rank.
+     * @param rank   The farmer type/rank to register for.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport register(Stats rank) {
+        return execute(FarmCommand.register(rank));
+    }
+
+    /**
+     * Harvests every harvestable crop on the farm, updating the player's
+     * stats once for all of them.
+     * @return   A report containing the combined feedback about harvesting.
+     */
+    public ActionReport harvestAll() {
+        return execute(FarmCommand.harvestAll());
+    }
+
+    /**
+     * Digs up every withered crop on the farm, updating the player's stats
+     * once for all of them.
+     * @return   A report containing the combined feedback about digging.
+     */
+    public ActionReport clearAllWithered() {
+        return execute(FarmCommand.clearAllWithered());
+    }
+
+    /**
+     * Returns whether the game is still running.
+     * @return   Whether the game is still running.
+     */
+    public boolean isRunning() {
+        return myFarm.isRunning();
+    }
+
+    public MyFarm getMyFarm() {
+        return myFarm;
+    }
+    public FarmJournal getJournal() {
+        return journal;
+    }
+    public void setJournal(FarmJournal journal) {
+        this.journal = journal;
+    }
+    public boolean isPublishingSnapshots() {
+        return publishingSnapshots;
+    }
+    public void setPublishingSnapshots(boolean publishingSnapshots) {
+        this.publishingSnapshots = publishingSnapshots;
+    }
+}
@@ -0,0 +1,565 @@
+package myfarm;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Records the commands executed on a farm to an append-only binary journal,
+ * along with periodic checkpoints of the whole game, so that a game can be
+ * recovered after a crash and recorded games can be replayed exactly.
+ *
+ * The journal is kept in a directory as numbered segments. Each segment is
+ * made up of a checkpoint, which is a save file of the game when the segment
+ * started, and a log of the commands executed since then. The log starts
+ * with a header made up of a magic number, the version of the format, the
+ * number of the segment, and the seed the farm's random number generator was
+ * reset to when the segment started, so that replaying the log on the
+ * checkpoint plays out exactly the same. A new segment is started every
+ * given number of commands.
+ *
+ * Each command is written to the log as soon as it is recorded, so a game
+ * that crashes can be recovered up to its last recorded command. How often
+ * the log is also forced to the storage device, so that it survives the
+ * machine crashing too, is given by a {@link SyncPolicy}.
+ *
+ * Each command in the log is one byte for its action followed by:
+ *    Tile actions   The row and column of the tile, and for planting, the
+ *                   kind of the crop or -1 if there is none.
+ *    Area actions   The row and column of both corners, and the kind of the
+ *                   crop or -1. The highest bit of the action byte is set.
+ *    Advance days   The number of days.
+ *    Register       Whether there is a rank, and if so, its name and stats.
+ *    Other actions  Nothing else.
+ * Numbers are stored in little-endian byte order.
+ */
+public class FarmJournal implements Closeable {
+    public static final int MAGIC = 0x4D594A4C; // "MYJL"
+    public static final int VERSION = 1;
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10000;
+    public static final SyncPolicy DEFAULT_SYNC_POLICY = SyncPolicy.SEGMENT;
+
+    // Magic number, version, segment, and seed
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+    // Large enough for any command, including a rank with the longest name
+    private static final int BUFFER_SIZE = 1 << 17;
+
+    private static final int AREA = 0x80;
+    private static final int NO_CROP = -1;
+
+    private final Path directory;
+    private final int checkpointInterval;
+    private final SyncPolicy syncPolicy;
+    private final ByteBuffer buffer; // holds the command being recorded
+    private FileChannel channel;
+    private int segment;
+    private int commandCount; // since the last checkpoint
+
+    /**
+     * Creates a journal that starts at the given segment.
+     * @param directory            The directory of the journal.
+     * @param checkpointInterval   The number of commands between
+     *                             checkpoints.
+     * @param syncPolicy           How often the log is forced to the
+     *                             storage device.
+     * @param segment              The number of the first segment.
+     */
+    private FarmJournal(Path directory, int checkpointInterval, SyncPolicy syncPolicy, int segment) {
+        this.directory = directory;
+        this.checkpointInterval = checkpointInterval;
+        this.syncPolicy = syncPolicy;
+        this.segment = segment;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Starts journaling the given game in the given directory, with a
+     * checkpoint every {@link #DEFAULT_CHECKPOINT_INTERVAL} commands and the
+     * {@link #DEFAULT_SYNC_POLICY}.
+     * @param directory   The directory of the journal.
+     * @param myFarm      The game to be journaled.
+     * @return   The journal.
+     * @throws IOException When the first checkpoint cannot be written.
+     * @see #start(Path, MyFarm, int)
+     */
+    public static FarmJournal start(Path directory, MyFarm myFarm) throws IOException {
+        return start(directory, myFarm, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Starts journaling the given game in the given directory, beginning
+     * with a checkpoint of the game as it is now. If the directory already
+     * has a journal in it, such as one the game was recovered from, the new
+     * segments are numbered after its segments.
+     * @param directory            The directory of the journal.
+     * @param myFarm               The game to be journaled.
+     * @param checkpointInterval   The number of commands between
+     *                             checkpoints.
+     * @return   The journal.
+     * @throws IOException When the first checkpoint cannot be written.
+     */
+    public static FarmJournal start(Path directory, MyFarm myFarm, int checkpointInterval) throws IOException {
+        return start(directory, myFarm, checkpointInterval, DEFAULT_SYNC_POLICY);
+    }
+
+    /**
+     * Starts journaling the given game in the given directory the same way
+     * as {@link #start(Path, MyFarm, int)}, forcing the log to the storage
+     * device as often as the given policy says.
+     * @param directory            The directory of the journal.
+     * @param myFarm               The game to be journaled.
+     * @param checkpointInterval   The number of commands between
+     *                             checkpoints.
+     * @param syncPolicy           How often the log is forced to the
+     *                             storage device.
+     * @return   The journal.
+     * @throws IOException When the first checkpoint cannot be written.
+     */
+    public static FarmJournal start(Path directory, MyFarm myFarm, int checkpointInterval, SyncPolicy syncPolicy)
+            throws IOException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval has to be positive");
+        }
+        if (syncPolicy == null) {
+            throw new IllegalArgumentException("Sync policy cannot be null");
+        }
+
+        Files.createDirectories(directory);
+        FarmJournal journal = new FarmJournal(directory, checkpointInterval, syncPolicy, lastSegment(directory) + 1);
+        journal.startSegment(myFarm);
+        return journal;
+    }
+
+    /**
+     * Records the given command. Should be called once the command has been
+     * executed without throwing an exception, since replaying a command that
+     * throws would stop the replay, and followed by
+     * {@link #checkpointIfDue(MyFarm)}.
+     * @param command   The command to be recorded.
+     * @throws IOException When the log cannot be written.
+     */
+    public void record(FarmCommand command) throws IOException {
+        FarmAction action = command.getAction();
+        if (action == FarmAction.REGISTER) {
+            recordRegister(command.getRank());
+            return;
+        }
+
+        buffer.put((byte)action.ordinal());
+        if (action == FarmAction.ADVANCE_DAYS) {
+            buffer.putInt(command.getDays());
+        } else if (action.isTileAction()) {
+            buffer.putInt(command.getRow());
+            buffer.putInt(command.getColumn());
+            if (action == FarmAction.PLANT) {
+                buffer.put(kindOf(command.getCrop()));
+            }
+        }
+        writeCommand();
+    }
+
+    /**
+     * Records the given tile action done on every tile in the rectangle
+     * between the given corners. Should be called once the action has been
+     * done without throwing an exception.
+     * @param action       The tile action to be done.
+     * @param fromRow      Row position of the first corner.
+     * @param fromColumn   Column position of the first corner.
+     * @param toRow        Row position of the opposite corner.
+     * @param toColumn     Column position of the opposite corner.
+     * @param crop         The crop to be planted. Can be null.
+     * @throws IOException When the log cannot be written.
+     * @see FarmEngine#executeOnArea(FarmAction, int, int, int, int, Crop)
+     */
+    public void recordArea(FarmAction action, int fromRow, int fromColumn, int toRow, int toColumn, Crop crop)
+            throws IOException {
+        buffer.put((byte)(AREA | action.ordinal()));
+        buffer.putInt(fromRow);
+        buffer.putInt(fromColumn);
+        buffer.putInt(toRow);
+        buffer.putInt(toColumn);
+        buffer.put(kindOf(crop));
+        writeCommand();
+    }
+
+    /**
+     * Records registering for the given farmer type/rank.
+     * @param rank   The farmer type/rank to register for. Can be null.
+     * @throws IOException When the log cannot be written.
+     */
+    private void recordRegister(Stats rank) throws IOException {
+        if (rank == null) {
+            buffer.put((byte)FarmAction.REGISTER.ordinal());
+            buffer.put((byte)0);
+            writeCommand();
+            return;
+        }
+
+        byte[] name = rank.getRank().getBytes(StandardCharsets.UTF_8);
+        if (name.length > Character.MAX_VALUE) {
+            throw new IllegalArgumentException("Rank name is too long to be recorded");
+        }
+
+        buffer.put((byte)FarmAction.REGISTER.ordinal());
+        buffer.put((byte)1);
+        buffer.putChar((char)name.length);
+        buffer.put(name);
+        buffer.putDouble(rank.getBonusEarnings());
+        buffer.putDouble(rank.getSeedCostReduction());
+        buffer.putInt(rank.getWaterLimitIncrease());
+        buffer.putInt(rank.getFertilizerLimitIncrease());
+        buffer.putInt(rank.getRankTier());
+        buffer.putDouble(rank.getRankCost());
+        buffer.putInt(rank.getRankRequiredLevel());
+        writeCommand();
+    }
+
+    /**
+     * Returns the number stored for the kind of the given crop.
+     * @param crop   The crop. Can be null.
+     * @return   The ordinal of the crop's definition, or -1 if there is no
+     *           crop.
+     */
+    private static byte kindOf(Crop crop) {
+        return (byte)(crop == null ? NO_CROP : crop.getDefinition().ordinal());
+    }
+
+    /**
+     * Writes the command in the buffer to the log, and forces the log to the
+     * storage device if the sync policy says so.
+     * @throws IOException When the log cannot be written.
+     */
+    private void writeCommand() throws IOException {
+        flush();
+        if (syncPolicy == SyncPolicy.EVERY_COMMAND) {
+            channel.force(false);
+        }
+        commandCount++;
+    }
+
+    /**
+     * Starts a new segment with a checkpoint of the given game once the
+     * number of commands since the last checkpoint reaches the checkpoint
+     * interval. Should be called after each recorded command is executed.
+     * @param myFarm   The game being journaled.
+     * @throws IOException When the checkpoint cannot be written.
+     */
+    public void checkpointIfDue(MyFarm myFarm) throws IOException {
+        if (commandCount >= checkpointInterval) {
+            checkpoint(myFarm);
+        }
+    }
+
+    /**
+     * Ends the current segment and starts a new one with a checkpoint of the
+     * given game as it is now.
+     * @param myFarm   The game being journaled.
+     * @throws IOException When the checkpoint cannot be written.
+     */
+    public void checkpoint(MyFarm myFarm) throws IOException {
+        close();
+        segment++;
+        startSegment(myFarm);
+    }
+
+    /**
+     * Starts the current segment. The farm's random number generator is
+     * reset to a seed drawn from it, which is written to the log's header
+     * before the checkpoint is saved, so that a checkpoint always has its
+     * log next to it.
+     * @param myFarm   The game being journaled.
+     * @throws IOException When the log or the checkpoint cannot be written.
+     */
+    private void startSegment(MyFarm myFarm) throws IOException {
+        long seed = myFarm.getRandom().nextLong();
+        myFarm.setRandom(new SplittableRandom(seed));
+
+        channel = FileChannel.open(logPath(directory, segment), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(segment);
+        buffer.putLong(seed);
+        flush();
+
+        FarmSaveFile.save(myFarm, checkpointPath(directory, segment));
+        commandCount = 0;
+    }
+
+    /**
+     * Writes out what is in the buffer to the log.
+     * @throws IOException When the log cannot be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Closes the log, forcing it to the storage device first unless the sync
+     * policy is to never do so.
+     * @throws IOException When the log cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        if (syncPolicy != SyncPolicy.NEVER) {
+            channel.force(false);
+        }
+        channel.close();
+        channel = null;
+    }
+
+    /**
+     * Recovers the game journaled in the given directory by loading its
+     * latest checkpoint and replaying the commands recorded after it. A
+     * command cut off at the end of the log, which only happens when the
+     * game crashed in the middle of writing it, is left out. If the machine
+     * crashed, the commands that were not yet forced to the storage device
+     * may be lost.
+     * @param directory   The directory of the journal.
+     * @return   The recovered game.
+     * @throws IOException When there is no checkpoint or the journal cannot
+     *                     be read.
+     */
+    public static MyFarm recover(Path directory) throws IOException {
+        int segment = lastCheckpoint(directory);
+        MyFarm myFarm = loadCheckpoint(directory, segment);
+        replaySegment(myFarm, directory, segment);
+        return myFarm;
+    }
+
+    /**
+     * Replays the whole game journaled in the given directory by loading its
+     * first checkpoint and replaying every log after it in order. Since the
+     * game plays out exactly the same, this is useful for checking that
+     * changes to the game do not change how it plays and for measuring how
+     * fast it runs.
+     * @param directory   The directory of the journal.
+     * @return   The game after every recorded command.
+     * @throws IOException When there is no checkpoint or the journal cannot
+     *                     be read.
+     */
+    public static MyFarm replay(Path directory) throws IOException {
+        int firstSegment = firstCheckpoint(directory);
+        int lastSegment = lastSegment(directory);
+        MyFarm myFarm = loadCheckpoint(directory, firstSegment);
+        for (int segment = firstSegment; segment <= lastSegment; segment++) {
+            replaySegment(myFarm, directory, segment);
+        }
+        return myFarm;
+    }
+
+    /**
+     * Loads the checkpoint of the given segment and checks the game-ending
+     * conditions, since whether the game has ended is not saved.
+     * @param directory   The directory of the journal.
+     * @param segment     The number of the segment.
+     * @return   The game at the checkpoint.
+     * @throws IOException When the checkpoint cannot be read.
+     */
+    private static MyFarm loadCheckpoint(Path directory, int segment) throws IOException {
+        MyFarm myFarm = FarmSaveFile.load(checkpointPath(directory, segment));
+        myFarm.shouldGameContinue();
+        return myFarm;
+    }
+
+    /**
+     * Replays the log of the given segment on the given game, after
+     * resetting its random number generator to the seed in the log's
+     * header. Does nothing if the log does not exist or its header was not
+     * written.
+     * @param myFarm      The game to replay the log on.
+     * @param directory   The directory of the journal.
+     * @param segment     The number of the segment.
+     * @throws IOException When the log cannot be read or is not a valid log.
+     */
+    private static void replaySegment(MyFarm myFarm, Path directory, int segment) throws IOException {
+        Path path = logPath(directory, segment);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        ByteBuffer log;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (log.remaining() < HEADER_SIZE) {
+            return;
+        }
+        if (log.getInt() != MAGIC) {
+            throw new IOException("Not a MyFarm journal log: " + path);
+        }
+        int version = log.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal log version " + version + ": " + path);
+        }
+        if (log.getInt() != segment) {
+            throw new IOException("Journal log is for a different segment: " + path);
+        }
+        myFarm.setRandom(new SplittableRandom(log.getLong()));
+
+        FarmEngine engine = new FarmEngine(myFarm);
+        FarmCommand command = new FarmCommand(null, -1, -1, null, null, 0);
+        TileActionResult result = new TileActionResult();
+        try {
+            while (log.hasRemaining()) {
+                int code = log.get() & 0xFF;
+                FarmAction action = FarmAction.values()[code & ~AREA];
+                if ((code & AREA) != 0) {
+                    int fromRow = log.getInt();
+                    int fromColumn = log.getInt();
+                    int toRow = log.getInt();
+                    int toColumn = log.getInt();
+                    Crop crop = readCrop(log);
+                    engine.executeOnArea(action, fromRow, fromColumn, toRow, toColumn, crop);
+                    continue;
+                }
+
+                command.setAction(action);
+                if (action == FarmAction.REGISTER) {
+                    command.setRank(readRank(log));
+                    engine.execute(command);
+                } else if (action == FarmAction.ADVANCE_DAYS) {
+                    command.setDays(log.getInt());
+                    engine.execute(command);
+                } else if (!action.isTileAction()) {
+                    engine.execute(command);
+                } else {
+                    command.setRow(log.getInt());
+                    command.setColumn(log.getInt());
+                    command.setCrop(action == FarmAction.PLANT ? readCrop(log) : null);
+                    engine.execute(command, result);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // the last command was only partly written, so it was never executed either
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupted journal log: " + path, e);
+        }
+    }
+
+    /**
+     * Reads the kind of a crop and creates a new crop of that kind.
+     * @param log   The log to be read from.
+     * @return   The new crop, or null if there is no crop.
+     */
+    private static Crop readCrop(ByteBuffer log) {
+        int kind = log.get();
+        return kind == NO_CROP ? null : CropDefinition.values()[kind].createCrop();
+    }
+
+    /**
+     * Reads a farmer type/rank.
+     * @param log   The log to be read from.
+     * @return   The farmer type/rank, or null if there is none.
+     */
+    private static Stats readRank(ByteBuffer log) {
+        if (log.get() == 0) {
+            return null;
+        }
+
+        byte[] name = new byte[log.getChar()];
+        log.get(name);
+        return new Stats(new String(name, StandardCharsets.UTF_8), log.getDouble(), log.getDouble(), log.getInt(),
+                log.getInt(), log.getInt(), log.getDouble(), log.getInt());
+    }
+
+    /**
+     * Returns the path of the checkpoint of the given segment.
+     * @param directory   The directory of the journal.
+     * @param segment     The number of the segment.
+     * @return   The path of the checkpoint.
+     */
+    private static Path checkpointPath(Path directory, int segment) {
+        return directory.resolve(String.format("checkpoint-%08d.sav", segment));
+    }
+
+    /**
+     * Returns the path of the log of the given segment.
+     * @param directory   The directory of the journal.
+     * @param segment     The number of the segment.
+     * @return   The path of the log.
+     */
+    private static Path logPath(Path directory, int segment) {
+        return directory.resolve(String.format("journal-%08d.log", segment));
+    }
+
+    /**
+     * Returns the number of the last segment that has a checkpoint or a log
+     * in the given directory.
+     * @param directory   The directory of the journal.
+     * @return   The number of the last segment, or -1 if there is none.
+     * @throws IOException When the directory cannot be read.
+     */
+    private static int lastSegment(Path directory) throws IOException {
+        return segmentNumbers(directory, "").max().orElse(-1);
+    }
+
+    /**
+     * Returns the number of the first segment that has a checkpoint in the
+     * given directory.
+     * @param directory   The directory of the journal.
+     * @return   The number of the first checkpoint.
+     * @throws IOException When there is no checkpoint or the directory
+     *                     cannot be read.
+     */
+    private static int firstCheckpoint(Path directory) throws IOException {
+        return segmentNumbers(directory, "checkpoint-").min()
+                .orElseThrow(() -> new IOException("No checkpoint in " + directory));
+    }
+
+    /**
+     * Returns the number of the last segment that has a checkpoint in the
+     * given directory.
+     * @param directory   The directory of the journal.
+     * @return   The number of the last checkpoint.
+     * @throws IOException When there is no checkpoint or the directory
+     *                     cannot be read.
+     */
+    private static int lastCheckpoint(Path directory) throws IOException {
+        return segmentNumbers(directory, "checkpoint-").max()
+                .orElseThrow(() -> new IOException("No checkpoint in " + directory));
+    }
+
+    /**
+     * Returns the numbers of the segments of the checkpoints and logs in the
+     * given directory whose file names start with the given prefix.
+     * @param directory   The directory of the journal.
+     * @param prefix      The prefix of the file names.
+     * @return   The numbers of the segments.
+     * @throws IOException When the directory cannot be read.
+     */
+    private static IntStream segmentNumbers(Path directory, String prefix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return IntStream.empty();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            int[] segments = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix)
+                            && name.matches("(checkpoint-\\d{8}\\.sav)|(journal-\\d{8}\\.log)"))
+                    .mapToInt(name -> Integer.parseInt(name.substring(name.indexOf('-') + 1, name.indexOf('.'))))
+                    .toArray();
+            return IntStream.of(segments);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package myfarm;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Saves and loads games to and from a compact binary file. The file starts
+ * with a header made up of a magic number, the version of the format, and
+ * the dimensions of the farm, followed by the player's stats and the state
+ * of the farm as written by {@link FarmState#writeTo(ByteBuffer)}. Numbers
+ * are stored in little-endian byte order.
+ */
+public final class FarmSaveFile {
+    public static final Path DEFAULT_PATH = Path.of("myfarm.sav");
+
+    public static final int MAGIC = 0x4D59464D; // "MYFM"
+    public static final int VERSION = 2;
+
+    // Magic number, version, width, and height
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private FarmSaveFile() {}
+
+    /**
+     * Saves the given game to the file at the given path. The game is
+     * written to a temporary file first, which then replaces the file, so
+     * an existing save is never left half-written.
+     * @param myFarm   The game to be saved.
+     * @param path     The path of the save file.
+     * @throws IOException When the file cannot be written.
+     */
+    public static void save(MyFarm myFarm, Path path) throws IOException {
+        save(myFarm.getState(), myFarm.getPlayerStats(), path);
+    }
+
+    /**
+     * Saves the game in the given snapshot to the file at the given path,
+     * the same way as {@link #save(MyFarm, Path)}. Since a snapshot never
+     * changes, this can be done on another thread while the game keeps
+     * being played, such as to save the game every few minutes.
+     * @param snapshot   The snapshot of the game to be saved.
+     * @param path       The path of the save file.
+     * @throws IOException When the file cannot be written.
+     */
+    public static void save(FarmSnapshot snapshot, Path path) throws IOException {
+        save(snapshot.toFarmState(), snapshot.getPlayerStats(), path);
+    }
+
+    /**
+     * Saves the given farm state and player stats to the file at the given
+     * path.
+     * @param state   The state of the farm's tiles.
+     * @param stats   The player's stats.
+     * @param path    The path of the save file.
+     * @throws IOException When the file cannot be written.
+     */
+    private static void save(FarmState state, Stats stats, Path path) throws IOException {
+        int size = Math.addExact(HEADER_SIZE + stats.getSaveSize(), state.getSaveSize());
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(state.getWidth());
+        buffer.putInt(state.getHeight());
+        stats.writeTo(buffer);
+        state.writeTo(buffer);
+        buffer.flip();
+
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads the game saved in the file at the given path. The loaded game
+     * gets a new random number generator.
+     * @param path   The path of the save file.
+     * @return   The loaded game.
+     * @throws IOException When the file cannot be read or is not a valid
+     *                     save file.
+     */
+    public static MyFarm load(Path path) throws IOException {
+        return load(path, new SplittableRandom());
+    }
+
+    /**
+     * Loads the game saved in the file at the given path, using the given
+     * random number generator for the rest of the game.
+     * @param path     The path of the save file.
+     * @param random   The random number generator of the loaded game.
+     * @return   The loaded game.
+     * @throws IOException When the file cannot be read or is not a valid
+     *                     save file.
+     */
+    public static MyFarm load(Path path, RandomGenerator random) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a MyFarm save file: " + path);
+            }
+
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported save file version " + version + ": " + path);
+            }
+
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width <= 0 || height <= 0) {
+                throw new IOException("Invalid farm dimensions " + width + "x" + height + ": " + path);
+            }
+            int size = Math.multiplyExact(width, height);
+
+            Stats stats = Stats.readFrom(buffer);
+
+            // checked before the farm is allocated, so that a corrupted size
+            // is reported instead of running out of memory
+            if (FarmState.getMinimumSaveSize(size) > buffer.remaining()) {
+                throw new IOException("Save file is too short for a " + width + "x" + height + " farm: " + path);
+            }
+            FarmState state = FarmState.readFrom(buffer, width, height);
+            return new MyFarm(state, stats, random);
+        } catch (BufferUnderflowException | NegativeArraySizeException | IllegalArgumentException
+                | ArithmeticException e) {
+            throw new IOException("Corrupted save file: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package myfarm;
+
+/**
+ * Represents an immutable copy of a game at one point in time, which any
+ * thread can read while the game keeps being played on its own thread, such
+ * as to draw the farm, save it, or export its numbers.
+ *
+ * The tiles are copied band by band, in the same bands of 4096 tiles that
+ * {@link FarmState} schedules its crops in. A snapshot taken after an
+ * earlier one shares the copies of every band where no tile changed since,
+ * so taking a snapshot after a few actions only copies the few bands they
+ * touched. The age of a crop is derived from the day it was planted and the
+ * day of the snapshot, so the passing of a day alone does not copy a band.
+ * @see MyFarm#publishSnapshot()
+ */
+public final class FarmSnapshot {
+    private final long version;
+    private final int width;
+    private final int height;
+    private final int day;
+    private final int waterLimitBonus;
+    private final int fertilizerLimitBonus;
+    private final int plantedCount;
+    private final int witheredCount;
+    private final Stats playerStats; // never changed after it is copied
+    private final boolean running;
+    private final String reasonForGameEnd;
+    private final Band[] bands;
+
+    /**
+     * Holds the copied columns of the tiles in one band, indexed by the
+     * index of the tile within the band.
+     */
+    private static final class Band {
+        private final byte[] tileFlags;
+        private final byte[] cropKinds;
+        private final byte[] cropFlags;
+        private final int[] plantedDays;
+        private final int[] water;
+        private final int[] fertilizer;
+
+        /**
+         * Copies the tiles from the given index up to but not including the
+         * other given index out of the given store.
+         * @param store   The store to copy from.
+         * @param from    The index of the first tile of the band.
+         * @param to      The index after the last tile of the band.
+         */
+        private Band(TileStore store, int from, int to) {
+            int size = to - from;
+            tileFlags = new byte[size];
+            cropKinds = new byte[size];
+            cropFlags = new byte[size];
+            plantedDays = new int[size];
+            water = new int[size];
+            fertilizer = new int[size];
+            for (int i = 0; i < size; i++) {
+                int index = from + i;
+                tileFlags[i] = (byte)store.getTileFlags(index);
+                int kind = store.getCropKind(index);
+                if (kind != FarmState.NO_CROP) {
+                    cropKinds[i] = (byte)kind;
+                    cropFlags[i] = (byte)store.getCropFlags(index);
+                    plantedDays[i] = store.getPlantedDay(index);
+                    water[i] = store.getWater(index);
+                    fertilizer[i] = store.getFertilizer(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot of the given game, sharing the copied bands of the
+     * given earlier snapshot of the same game where no tile changed since.
+     * This takes the changed bands from the farm state, so the snapshots of
+     * a game have to be taken one after another, each from the one before.
+     * @param myFarm     The game.
+     * @param previous   The snapshot of the game taken before this one, or
+     *                   null if this is the first.
+     */
+    public FarmSnapshot(MyFarm myFarm, FarmSnapshot previous) {
+        FarmState state = myFarm.getState();
+        if (previous != null && (previous.width != state.getWidth() || previous.height != state.getHeight())) {
+            throw new IllegalArgumentException("Previous snapshot is of a farm with different dimensions");
+        }
+
+        version = previous == null ? 1 : previous.version + 1;
+        width = state.getWidth();
+        height = state.getHeight();
+        day = state.getDay();
+        waterLimitBonus = state.getWaterLimitBonus();
+        fertilizerLimitBonus = state.getFertilizerLimitBonus();
+        plantedCount = state.getPlantedCount();
+        witheredCount = state.getWitheredCount();
+        playerStats = new Stats(myFarm.getPlayerStats());
+        running = myFarm.isRunning();
+        reasonForGameEnd = myFarm.getReasonForGameEnd();
+
+        TileStore store = state.getStore();
+        bands = new Band[state.getBandCount()];
+        for (int band = 0; band < bands.length; band++) {
+            // every band's change is taken so that the next snapshot starts from this one
+            if (state.takeBandChange(band) || previous == null) {
+                int from = band << FarmState.BAND_SHIFT;
+                bands[band] = new Band(store, from, Math.min(from + (1 << FarmState.BAND_SHIFT), store.size()));
+            } else {
+                bands[band] = previous.bands[band];
+            }
+        }
+    }
+
+    /**
+     * Returns whether this snapshot shares the copy of the given band with
+     * the given snapshot, meaning that no tile in the band changed between
+     * the two.
+     * @param other   The other snapshot.
+     * @param band    The number of the band.
+     * @return   Whether the copy of the band is shared.
+     */
+    public boolean sharesBand(FarmSnapshot other, int band) {
+        return bands[band] == other.bands[band];
+    }
+
+    /**
+     * Returns a new farm state with the tiles of this snapshot, which can
+     * then be saved or played without changing the game the snapshot was
+     * taken of.
+     * @return   The farm state.
+     */
+    public FarmState toFarmState() {
+        ArrayTileStore store = new ArrayTileStore(size());
+        store.setDay(day);
+        for (int band = 0; band < bands.length; band++) {
+            Band copy = bands[band];
+            int from = band << FarmState.BAND_SHIFT;
+            for (int i = 0; i < copy.tileFlags.length; i++) {
+                int index = from + i;
+                store.setTileFlags(index, copy.tileFlags[i]);
+                if (copy.cropKinds[i] != FarmState.NO_CROP) {
+                    store.setCropKind(index, copy.cropKinds[i]);
+                    store.setCropFlags(index, copy.cropFlags[i]);
+                    store.setPlantedDay(index, copy.plantedDays[i]);
+                    store.setWater(index, copy.water[i]);
+                    store.setFertilizer(index, copy.fertilizer[i]);
+                }
+            }
+        }
+
+        FarmState state = FarmState.open(width, height, store);
+        state.setLimitBonuses(waterLimitBonus, fertilizerLimitBonus);
+        return state;
+    }
+
+    /**
+     * Returns the number of tiles in the farm.
+     * @return   The number of tiles in the farm.
+     */
+    public int size() {
+        return width * height;
+    }
+
+    /**
+     * Returns the index of the tile at the given position.
+     * @param row      The row of the tile.
+     * @param column   The column of the tile.
+     * @return   The index of the tile.
+     */
+    public int indexOf(int row, int column) {
+        if (row < 0 || row >= height || column < 0 || column >= width) {
+            throw new IllegalArgumentException("Tile position is outside the farm");
+        }
+        return row * width + column;
+    }
+
+    /**
+     * Returns the copied band holding the tile at the given index.
+     * @param index   The index of the tile.
+     * @return   The band.
+     */
+    private Band bandOf(int index) {
+        return bands[index >>> FarmState.BAND_SHIFT];
+    }
+
+    /**
+     * Returns the index of the tile at the given index within its band.
+     * @param index   The index of the tile.
+     * @return   The index of the tile within its band.
+     */
+    private static int offsetOf(int index) {
+        return index & ((1 << FarmState.BAND_SHIFT) - 1);
+    }
+
+    /**
+     * Returns whether the tile at the given index is plowed.
+     * @param index   The index of the tile.
+     * @return   Whether the tile is plowed.
+     */
+    public boolean isPlowed(int index) {
+        return (bandOf(index).tileFlags[offsetOf(index)] & TileStore.PLOWED) != 0;
+    }
+
+    /**
+     * Returns whether the tile at the given index has a rock.
+     * @param index   The index of the tile.
+     * @return   Whether the tile has a rock.
+     */
+    public boolean hasRock(int index) {
+        return (bandOf(index).tileFlags[offsetOf(index)] & TileStore.ROCK) != 0;
+    }
+
+    /**
+     * Returns the definition of the crop planted on the tile at the given
+     * index.
+     * @param index   The index of the tile.
+     * @return
+     *    The definition   if the tile has a crop.
+     *    null             otherwise.
+     */
+    public CropDefinition getCropKind(int index) {
+        return FarmState.definitionOf(bandOf(index).cropKinds[offsetOf(index)]);
+    }
+
+    /**
+     * Returns the status flags of the crop on the tile at the given index,
+     * which are those of {@link FarmState}.
+     * @param index   The index of the tile.
+     * @return   The status flags of the crop, or 0 if there is no crop.
+     */
+    public int getCropFlags(int index) {
+        return bandOf(index).cropFlags[offsetOf(index)];
+    }
+
+    /**
+     * Returns whether the crop on the tile at the given index is harvestable.
+     * @param index   The index of the tile.
+     * @return   Whether the crop is harvestable.
+     */
+    public boolean isHarvestable(int index) {
+        return (getCropFlags(index) & FarmState.HARVESTABLE) != 0;
+    }
+
+    /**
+     * Returns whether the crop on the tile at the given index is withered.
+     * @param index   The index of the tile.
+     * @return   Whether the crop is withered.
+     */
+    public boolean isWithered(int index) {
+        return (getCropFlags(index) & FarmState.WITHERED) != 0;
+    }
+
+    /**
+     * Returns the age of the crop on the tile at the given index on the day
+     * of the snapshot.
+     * @param index   The index of the tile.
+     * @return   The age of the crop, or 0 if there is no crop.
+     */
+    public int getAge(int index) {
+        Band band = bandOf(index);
+        int offset = offsetOf(index);
+        return band.cropKinds[offset] == FarmState.NO_CROP ? 0 : day - band.plantedDays[offset];
+    }
+
+    /**
+     * Returns the number of times the crop on the tile at the given index
+     * has been watered.
+     * @param index   The index of the tile.
+     * @return   The number of times the crop has been watered.
+     */
+    public int getWater(int index) {
+        return bandOf(index).water[offsetOf(index)];
+    }
+
+    /**
+     * Returns the number of times the crop on the tile at the given index
+     * has been fertilized.
+     * @param index   The index of the tile.
+     * @return   The number of times the crop has been fertilized.
+     */
+    public int getFertilizer(int index) {
+        return bandOf(index).fertilizer[offsetOf(index)];
+    }
+
+    /**
+     * Returns the water limit of the crop on the tile at the given index,
+     * including the bonus of the player's rank.
+     * @param index   The index of the tile.
+     * @return   The water limit of the crop, or 0 if there is no crop.
+     */
+    public int getWaterLimit(int index) {
+        CropDefinition definition = getCropKind(index);
+        return definition == null ? 0 : definition.getWaterLimit() + waterLimitBonus;
+    }
+
+    /**
+     * Returns the fertilizer limit of the crop on the tile at the given
+     * index, including the bonus of the player's rank.
+     * @param index   The index of the tile.
+     * @return   The fertilizer limit of the crop, or 0 if there is no crop.
+     */
+    public int getFertilizerLimit(int index) {
+        CropDefinition definition = getCropKind(index);
+        return definition == null ? 0 : definition.getFertilizerLimit() + fertilizerLimitBonus;
+    }
+
+    /**
+     * Returns a copy of the player's stats at the time of the snapshot.
+     * @return   The player's stats.
+     */
+    public Stats getPlayerStats() {
+        return new Stats(playerStats);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+    public int getWidth() {
+        return width;
+    }
+    public int getHeight() {
+        return height;
+    }
+    public int getDay() {
+        return day;
+    }
+    public int getWaterLimitBonus() {
+        return waterLimitBonus;
+    }
+    public int getFertilizerLimitBonus() {
+        return fertilizerLimitBonus;
+    }
+    public int getPlantedCount() {
+        return plantedCount;
+    }
+    public int getWitheredCount() {
+        return witheredCount;
+    }
+    public boolean isRunning() {
+        return running;
+    }
+    public String getReasonForGameEnd() {
+        return reasonForGameEnd;
+    }
+}
@@ -0,0 +1,1086 @@
+package myfarm;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Stores the state of every tile in the farm in compact columns instead of
+ * one object per tile. The plowed and rock flags are kept in bit sets, while
+ * the state of each planted crop is kept in a {@link TileStore}, which holds
+ * primitive arrays by default but can also be a memory-mapped file. Every
+ * column is indexed by {@code row * width + column}.
+ *
+ * The age of a crop is not stored but derived from the day it was planted.
+ * A crop's state only changes on the day it reaches its harvest age and on
+ * the day after, so those two days are scheduled when it is planted and
+ * moving on to the next day only looks at the crops due on that day.
+ *
+ * The tiles are split into bands of 4096 consecutive indices, that is, runs
+ * of whole or partial rows, each with its own schedule. Crops only ever
+ * change their own state when a day passes, so when enough crops are due,
+ * the bands can be gone through in parallel.
+ *
+ * Every tile whose flags or crop changes is marked as changed until the
+ * changes are taken, so that a view only has to redraw those tiles, and its
+ * band is marked until it is taken for a snapshot, so that a snapshot only
+ * has to copy the bands that changed. The age of a crop does not count as a
+ * change, since every crop ages every day.
+ */
+public class FarmState {
+    public static final int NO_CROP = 0;
+
+    // Bands hold 4096 tiles, a multiple of the 64 tiles in a bit set word
+    public static final int BAND_SHIFT = 12;
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 15;
+
+    // Crop status flags
+    public static final int HARVESTABLE = 1;
+    public static final int WITHERED = 1 << 1;
+    public static final int OVERRIPE = 1 << 2;
+    public static final int LACKS_WATER = 1 << 3;
+    public static final int LACKS_FERTILIZER = 1 << 4;
+
+    private final int width;
+    private final int height;
+
+    // Tile flags
+    private final TileBitSet plowed;
+    private final TileBitSet rocks;
+    private final TileBitSet occupied; // has a rock or a crop
+    private final TileBitSet interior; // not on the edge of the farm
+
+    // Tiles where each crop type can be planted right now, indexed by the
+    // ordinal of the crop type and kept up to date on every tile change
+    private final TileBitSet openTiles; // plowed and unoccupied
+    private final TileBitSet fruitTreeTiles; // open with an unoccupied 3x3 neighbourhood
+    private final TileBitSet[] plantableTiles;
+
+    // Tiles by the state of their crop, kept up to date whenever a crop is
+    // planted, removed, or changes state, so that finding the tiles in a
+    // state does not go through every tile's crop
+    private final TileBitSet growingTiles; // has a crop that is neither harvestable nor withered
+    private final TileBitSet harvestableTiles;
+    private final TileBitSet witheredTiles;
+
+    // Tiles changed since the changes were last taken
+    private final TileBitSet changedTiles;
+
+    // Bands changed since they were last taken for a snapshot; a boolean per
+    // band rather than a bit set so that bands updated in parallel never
+    // write to the same word
+    private final boolean[] unsnapshottedBands;
+
+    // Tile flags and crop state of every tile
+    private final TileStore store;
+
+    // Live counts kept up to date on every change so that the game-ending
+    // conditions can be checked without scanning the farm
+    private int plantedCount;
+    private int witheredCount;
+    private int occupiedCount;
+
+    // Increases to the water and fertilizer limits of every crop, kept once
+    // for the whole farm instead of in each crop
+    private int waterLimitBonus;
+    private int fertilizerLimitBonus;
+
+    // Days and the crops due on each of them
+    private int day;
+    private final DayScheduler[] schedulers;
+
+    // Pool used to go through the bands in parallel; null if days are always
+    // moved on sequentially
+    private ForkJoinPool pool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    // Crop definitions by kind, where the kind of a definition is its
+    // ordinal plus one; kind 0 means that there is no crop
+    private static final CropDefinition[] KINDS = new CropDefinition[CropDefinition.values().length + 1];
+    private static final int[] KIND_HARVEST_AGES = new int[KINDS.length];
+    private static final int[] KIND_WATER_NEEDED = new int[KINDS.length];
+    private static final int[] KIND_FERTILIZER_NEEDED = new int[KINDS.length];
+    private static final int[] KIND_WATER_LIMITS = new int[KINDS.length];
+    private static final int[] KIND_FERTILIZER_LIMITS = new int[KINDS.length];
+
+    static {
+        for (CropDefinition definition : CropDefinition.values()) {
+            int kind = kindOf(definition);
+            KINDS[kind] = definition;
+            KIND_HARVEST_AGES[kind] = definition.getHarvestAge();
+            KIND_WATER_NEEDED[kind] = definition.getWaterNeeded();
+            KIND_FERTILIZER_NEEDED[kind] = definition.getFertilizerNeeded();
+            KIND_WATER_LIMITS[kind] = definition.getWaterLimit();
+            KIND_FERTILIZER_LIMITS[kind] = definition.getFertilizerLimit();
+        }
+    }
+
+    /**
+     * Creates the state of a farm with the given dimensions, kept in arrays
+     * on the heap. All tiles start unplowed, without rocks, and without
+     * crops.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     */
+    public FarmState(int width, int height) {
+        this(width, height, new ArrayTileStore(sizeOf(width, height)));
+    }
+
+    /**
+     * Creates the state of a farm with the given dimensions, kept in the
+     * given store. The store has to be empty, that is, all tiles start
+     * unplowed, without rocks, and without crops. To continue with a store
+     * that already has tiles in it, use {@link #open(int, int, TileStore)}.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @param store    The store to keep the tiles in.
+     */
+    public FarmState(int width, int height, TileStore store) {
+        int size = sizeOf(width, height);
+        if (store.size() != size) {
+            throw new IllegalArgumentException("Store has " + store.size() + " tiles instead of " + size);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.store = store;
+        this.day = store.getDay();
+
+        plowed = new TileBitSet(size);
+        rocks = new TileBitSet(size);
+        occupied = new TileBitSet(size);
+        interior = new TileBitSet(size);
+        openTiles = new TileBitSet(size);
+        fruitTreeTiles = new TileBitSet(size);
+        changedTiles = new TileBitSet(size);
+        growingTiles = new TileBitSet(size);
+        harvestableTiles = new TileBitSet(size);
+        witheredTiles = new TileBitSet(size);
+
+        schedulers = new DayScheduler[((size - 1) >>> BAND_SHIFT) + 1];
+        for (int band = 0; band < schedulers.length; band++) {
+            schedulers[band] = new DayScheduler(1, day);
+        }
+        unsnapshottedBands = new boolean[schedulers.length];
+        Arrays.fill(unsnapshottedBands, true);
+
+        for (int row = 1; row < height - 1; row++) {
+            interior.set(indexOf(row, 1), indexOf(row, width - 1));
+        }
+
+        plantableTiles = new TileBitSet[CropType.values().length];
+        for (CropType type : CropType.values()) {
+            plantableTiles[type.ordinal()] = type.needsFreeAdjacentTiles() ? fruitTreeTiles : openTiles;
+        }
+    }
+
+    /**
+     * Creates a copy of the given state that can be changed without changing
+     * the original, such as to try out actions on. The columns and bit sets
+     * are copied as whole arrays, so this costs about as much as copying the
+     * farm's memory and far less than building the state again. A state
+     * kept in a memory-mapped file is copied to arrays on the heap. The
+     * interior tiles never change, so they are shared.
+     * @param other   The state to be copied.
+     */
+    public FarmState(FarmState other) {
+        width = other.width;
+        height = other.height;
+        store = other.store.copy();
+
+        plowed = new TileBitSet(other.plowed);
+        rocks = new TileBitSet(other.rocks);
+        occupied = new TileBitSet(other.occupied);
+        interior = other.interior;
+        openTiles = new TileBitSet(other.openTiles);
+        fruitTreeTiles = new TileBitSet(other.fruitTreeTiles);
+        changedTiles = new TileBitSet(other.changedTiles);
+        growingTiles = new TileBitSet(other.growingTiles);
+        harvestableTiles = new TileBitSet(other.harvestableTiles);
+        witheredTiles = new TileBitSet(other.witheredTiles);
+
+        plantableTiles = new TileBitSet[CropType.values().length];
+        for (CropType type : CropType.values()) {
+            plantableTiles[type.ordinal()] = type.needsFreeAdjacentTiles() ? fruitTreeTiles : openTiles;
+        }
+
+        plantedCount = other.plantedCount;
+        witheredCount = other.witheredCount;
+        occupiedCount = other.occupiedCount;
+        waterLimitBonus = other.waterLimitBonus;
+        fertilizerLimitBonus = other.fertilizerLimitBonus;
+
+        day = other.day;
+        schedulers = new DayScheduler[other.schedulers.length];
+        for (int band = 0; band < schedulers.length; band++) {
+            schedulers[band] = new DayScheduler(other.schedulers[band]);
+        }
+        unsnapshottedBands = other.unsnapshottedBands.clone();
+
+        pool = other.pool;
+        parallelThreshold = other.parallelThreshold;
+    }
+
+    /**
+     * Creates the state of a farm with the given dimensions from a store
+     * that may already have tiles in it, such as a memory-mapped store
+     * opened from an existing file, and works out the counts, schedules,
+     * and plantable tiles from it. This goes through every tile once, which
+     * for a memory-mapped store reads the whole file; a store that was saved
+     * with {@link #saveMapped(Stats)} can be opened with
+     * {@link #openSaved(int, int, MappedTileStore)} instead.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @param store    The store the tiles are kept in.
+     * @return   The state of the farm.
+     */
+    public static FarmState open(int width, int height, TileStore store) {
+        FarmState state = new FarmState(width, height, store);
+        for (int i = 0; i < store.size(); i++) {
+            int flags = store.getTileFlags(i);
+            state.plowed.set(i, (flags & TileStore.PLOWED) != 0);
+            state.rocks.set(i, (flags & TileStore.ROCK) != 0);
+        }
+        state.rebuildDerivedState();
+        return state;
+    }
+
+    /**
+     * Creates the state of a farm with the given dimensions from a
+     * memory-mapped store saved with {@link #saveMapped(Stats)}, reading the
+     * saved bit sets instead of every tile. Only the records of the crops
+     * that still have to be scheduled, the growing and harvestable ones, are
+     * read, so reopening a large farm only reads as much of the file as it
+     * has of those crops.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @param store    The store the tiles are kept in, which has to be
+     *                 saved.
+     * @return   The state of the farm.
+     * @see MappedTileStore#isSaved()
+     */
+    public static FarmState openSaved(int width, int height, MappedTileStore store) {
+        if (!store.isSaved()) {
+            throw new IllegalArgumentException("Store has changed since it was last saved");
+        }
+
+        FarmState state = new FarmState(width, height, store);
+        store.readBitSets(state.getSavedBitSets());
+        state.witheredCount = state.witheredTiles.cardinality();
+        state.plantedCount = state.growingTiles.cardinality() + state.harvestableTiles.cardinality()
+                + state.witheredCount;
+        state.occupiedCount = state.occupied.cardinality();
+        forEach(state.growingTiles, state::scheduleCrop);
+        forEach(state.harvestableTiles, state::scheduleCrop);
+        state.rebuildPlantableTiles();
+        return state;
+    }
+
+    /**
+     * Saves the bit sets of the farm and the given player stats in the
+     * memory-mapped store the farm is kept in, and writes every change to
+     * the file, so that the farm can be opened again with
+     * {@link #openSaved(int, int, MappedTileStore)}. The farm stays saved
+     * until its tiles or day change again.
+     * @param stats   The player's stats.
+     * @throws IllegalStateException When the farm is not kept in a
+     *                               memory-mapped store.
+     */
+    public void saveMapped(Stats stats) {
+        if (!(store instanceof MappedTileStore mappedStore)) {
+            throw new IllegalStateException("The farm is not kept in a memory-mapped file");
+        }
+        mappedStore.save(stats, getSavedBitSets());
+    }
+
+    /**
+     * Returns the bit sets saved with a memory-mapped store, in the order
+     * they are saved in. Every other bit set and count can be worked out
+     * from these without reading the tiles.
+     * @return   The bit sets to be saved.
+     */
+    private TileBitSet[] getSavedBitSets() {
+        return new TileBitSet[] {plowed, rocks, occupied, growingTiles, harvestableTiles, witheredTiles};
+    }
+
+    /**
+     * Returns the number of tiles in a farm with the given dimensions.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @return   The number of tiles in the farm.
+     */
+    private static int sizeOf(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Farm dimensions have to be positive");
+        }
+        return Math.multiplyExact(width, height);
+    }
+
+    /**
+     * Returns the index of the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return   The index of the tile.
+     */
+    public int indexOf(int row, int column) {
+        return row * width + column;
+    }
+
+    /**
+     * Moves on to the next day, which ages every planted crop, and updates
+     * the state of the crops due on that day.
+     */
+    public void nextDay() {
+        advanceDays(1);
+    }
+
+    /**
+     * Moves on by the given number of days at once. Since the state of a crop
+     * after any number of days can be computed from its age alone, each crop
+     * due within those days is updated only once, using its age on the last
+     * day. No more than one horizon of each band's schedule is looked at, so
+     * skipping many days costs the same as skipping a few. If parallel days
+     * are enabled and at least as many crops as the threshold are due, the
+     * bands are gone through in parallel.
+     * @param days   The number of days to move on by.
+     */
+    public void advanceDays(int days) {
+        if (days <= 0) {
+            return;
+        }
+
+        day = Math.addExact(day, days);
+        store.setDay(day);
+        if (pool != null && countDue(days) >= parallelThreshold) {
+            witheredCount += pool.invoke(new AdvanceBandsTask(0, schedulers.length, days));
+        } else {
+            witheredCount += advanceBands(0, schedulers.length, days);
+        }
+    }
+
+    /**
+     * Returns the number of crops due within the given number of days.
+     * @param days   The number of days to look ahead.
+     * @return   The number of crops due within those days.
+     */
+    private int countDue(int days) {
+        int count = 0;
+        for (DayScheduler scheduler : schedulers) {
+            count += scheduler.countDue(days);
+        }
+        return count;
+    }
+
+    /**
+     * Moves the given range of bands on to the current day, updating the
+     * crops due on the days that passed.
+     * @param fromBand   The first band, inclusive.
+     * @param toBand     The last band, exclusive.
+     * @param days       The number of days that passed.
+     * @return   The number of crops that withered.
+     */
+    private int advanceBands(int fromBand, int toBand, int days) {
+        int withered = 0;
+        for (int band = fromBand; band < toBand; band++) {
+            DayScheduler scheduler = schedulers[band];
+            int steps = Math.min(days, scheduler.getCapacity());
+            for (int step = 0; step < steps; step++) {
+                int dueCount = scheduler.advance();
+                int[] dueTiles = scheduler.getDueTiles();
+                for (int i = 0; i < dueCount; i++) {
+                    withered += updateCropState(dueTiles[i]);
+                }
+            }
+            scheduler.skipTo(day);
+        }
+        return withered;
+    }
+
+    /**
+     * Moves a range of bands on to the current day, splitting the range in
+     * half until only one band is left.
+     */
+    private class AdvanceBandsTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int fromBand;
+        private final int toBand;
+        private final int days;
+
+        AdvanceBandsTask(int fromBand, int toBand, int days) {
+            this.fromBand = fromBand;
+            this.toBand = toBand;
+            this.days = days;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toBand - fromBand == 1) {
+                return advanceBands(fromBand, toBand, days);
+            }
+
+            int middle = (fromBand + toBand) >>> 1;
+            AdvanceBandsTask left = new AdvanceBandsTask(fromBand, middle, days);
+            left.fork();
+            int withered = new AdvanceBandsTask(middle, toBand, days).compute();
+            return withered + left.join();
+        }
+    }
+
+    /**
+     * Enables going through the bands in parallel when moving on to the next
+     * day, which is used when at least as many crops as the given threshold
+     * are due.
+     * @param pool        The pool to go through the bands with. Can be null
+     *                    to always move on sequentially.
+     * @param threshold   The number of due crops needed to go parallel.
+     */
+    public void setParallelDays(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Updates the state of the crop on the tile at the given index depending
+     * on its age, current water and fertilizer count. A crop that lacks water
+     * or fertilizer withers once it reaches its harvest age. Otherwise, it is
+     * harvestable on that day and becomes overripe and withers on any day
+     * after. Tiles that have no crop, a withered crop, or a crop that has not
+     * reached its harvest age are left as is, so a tile may be scheduled more
+     * than once, such as when its crop was removed and another crop was
+     * planted in its place. Only the tile's own state is changed, and bands
+     * never share a word of a bit set, so tiles of different bands can be
+     * updated from different threads.
+     * @param i   The index of the tile.
+     * @return   1 if the crop withered, 0 otherwise.
+     */
+    private int updateCropState(int i) {
+        int kind = store.getCropKind(i);
+        if (kind == NO_CROP) {
+            return 0;
+        }
+
+        int age = day - store.getPlantedDay(i);
+        int flags = store.getCropFlags(i);
+        int harvestAge = KIND_HARVEST_AGES[kind];
+        if ((flags & WITHERED) != 0 || age < harvestAge) {
+            return 0;
+        }
+
+        if (store.getWater(i) < KIND_WATER_NEEDED[kind]) {
+            flags |= LACKS_WATER;
+        }
+
+        if (store.getFertilizer(i) < KIND_FERTILIZER_NEEDED[kind]) {
+            flags |= LACKS_FERTILIZER;
+        }
+
+        if ((flags & (LACKS_WATER | LACKS_FERTILIZER)) == 0 && age > harvestAge) {
+            flags |= OVERRIPE;
+        }
+
+        int withered = 0;
+        if ((flags & (LACKS_WATER | LACKS_FERTILIZER | OVERRIPE)) != 0) {
+            flags = (flags & ~HARVESTABLE) | WITHERED;
+            withered = 1;
+        } else {
+            flags |= HARVESTABLE;
+        }
+        if (flags != store.getCropFlags(i)) {
+            store.setCropFlags(i, flags);
+            updateCropStateTiles(i, flags);
+            markChanged(i);
+        }
+        return withered;
+    }
+
+    /**
+     * Plants a new crop of the given kind on the tile at the given index. It
+     * starts at age 0 without water or fertilizer, and its limits are its
+     * base limits plus the farm's limit bonuses.
+     * @param index   The index of the tile.
+     * @param crop    The crop to be planted.
+     */
+    public void plantCrop(int index, Crop crop) {
+        removeCrop(index);
+        plantedCount++;
+        if (!hasRock(index)) {
+            occupiedCount++;
+        }
+        occupied.set(index);
+        updatePlantableTiles(index);
+
+        store.setCropKind(index, kindOf(crop.getDefinition()));
+        store.setPlantedDay(index, day);
+        store.setWater(index, 0);
+        store.setFertilizer(index, 0);
+        store.setCropFlags(index, 0);
+        updateCropStateTiles(index, 0);
+        markChanged(index);
+        scheduleCrop(index);
+    }
+
+    /**
+     * Updates which of the growing, harvestable, and withered tiles the tile
+     * at the given index is in, given the status flags of its crop.
+     * @param index   The index of the tile, which has a crop.
+     * @param flags   The status flags of the crop.
+     */
+    private void updateCropStateTiles(int index, int flags) {
+        growingTiles.set(index, (flags & (HARVESTABLE | WITHERED)) == 0);
+        harvestableTiles.set(index, (flags & HARVESTABLE) != 0);
+        witheredTiles.set(index, (flags & WITHERED) != 0);
+    }
+
+    /**
+     * Schedules the days the crop on the tile at the given index has to be
+     * looked at. The crop's state can only change when it reaches its
+     * harvest age and when it becomes overripe the day after; a crop that is
+     * already past those days is looked at tomorrow.
+     * @param index   The index of the tile.
+     */
+    private void scheduleCrop(int index) {
+        int harvestDay = store.getPlantedDay(index) + KIND_HARVEST_AGES[store.getCropKind(index)];
+        DayScheduler scheduler = schedulers[index >>> BAND_SHIFT];
+        scheduler.schedule(Math.max(harvestDay, day + 1), index);
+        scheduler.schedule(Math.max(harvestDay + 1, day + 1), index);
+    }
+
+    /**
+     * Removes the crop on the tile at the given index.
+     * @param index   The index of the tile.
+     */
+    public void removeCrop(int index) {
+        if (!hasCrop(index)) {
+            return;
+        }
+
+        plantedCount--;
+        if (isWithered(index)) {
+            witheredCount--;
+        }
+        if (!hasRock(index)) {
+            occupiedCount--;
+            occupied.clear(index);
+            updatePlantableTiles(index);
+        }
+
+        store.setCropKind(index, NO_CROP);
+        store.setPlantedDay(index, 0);
+        store.setWater(index, 0);
+        store.setFertilizer(index, 0);
+        store.setCropFlags(index, 0);
+        growingTiles.clear(index);
+        harvestableTiles.clear(index);
+        witheredTiles.clear(index);
+        markChanged(index);
+    }
+
+    /**
+     * Increases the water count of the crop on the tile at the given index
+     * until it reaches its water limit.
+     * @param index    The index of the tile.
+     * @param amount   The amount of water to add to the crop.
+     */
+    public void addWater(int index, int amount) {
+        store.setWater(index, Math.min(store.getWater(index) + amount, getWaterLimit(index)));
+        markChanged(index);
+    }
+
+    /**
+     * Increases the fertilizer count of the crop on the tile at the given
+     * index until it reaches its fertilizer limit.
+     * @param index    The index of the tile.
+     * @param amount   The amount of fertilizer to add to the crop.
+     */
+    public void addFertilizer(int index, int amount) {
+        store.setFertilizer(index, Math.min(store.getFertilizer(index) + amount, getFertilizerLimit(index)));
+        markChanged(index);
+    }
+
+    /**
+     * Returns the water limit of the crop on the tile at the given index,
+     * which is the base water limit of its kind plus the farm's water limit
+     * bonus.
+     * @param index   The index of the tile.
+     * @return   The water limit of the crop, or 0 if there is no crop.
+     */
+    public int getWaterLimit(int index) {
+        int kind = store.getCropKind(index);
+        return kind == NO_CROP ? 0 : KIND_WATER_LIMITS[kind] + waterLimitBonus;
+    }
+
+    /**
+     * Returns the fertilizer limit of the crop on the tile at the given
+     * index, which is the base fertilizer limit of its kind plus the farm's
+     * fertilizer limit bonus.
+     * @param index   The index of the tile.
+     * @return   The fertilizer limit of the crop, or 0 if there is no crop.
+     */
+    public int getFertilizerLimit(int index) {
+        int kind = store.getCropKind(index);
+        return kind == NO_CROP ? 0 : KIND_FERTILIZER_LIMITS[kind] + fertilizerLimitBonus;
+    }
+
+    /**
+     * Sets the amounts every crop's water and fertilizer limits are
+     * increased by, such as when the player registers for a new farmer
+     * type/rank. This takes effect on every crop at once without going
+     * through the farm, and the amounts replace the previous ones instead of
+     * adding to them.
+     * @param waterLimitBonus        Amount to increase the water limits by.
+     * @param fertilizerLimitBonus   Amount to increase the fertilizer limits
+     *                               by.
+     */
+    public void setLimitBonuses(int waterLimitBonus, int fertilizerLimitBonus) {
+        this.waterLimitBonus = waterLimitBonus;
+        this.fertilizerLimitBonus = fertilizerLimitBonus;
+    }
+
+    /**
+     * Returns the kind number stored for crops of the given definition.
+     * @param definition   The definition of the crop.
+     * @return   The kind number of the crop.
+     */
+    private static int kindOf(CropDefinition definition) {
+        return definition.ordinal() + 1;
+    }
+
+    /**
+     * Returns the crop definition stored as the given kind number.
+     * @param kind   The kind number of the crop.
+     * @return
+     *    The definition   if the kind number is of a crop.
+     *    null             if it is {@link #NO_CROP}.
+     */
+    public static CropDefinition definitionOf(int kind) {
+        return KINDS[kind];
+    }
+
+    /**
+     * Returns the definition of the crop planted on the tile at the given
+     * index.
+     * @param index   The index of the tile.
+     * @return
+     *    The definition   if the tile has a crop.
+     *    null             otherwise.
+     */
+    public CropDefinition getCropKind(int index) {
+        return KINDS[store.getCropKind(index)];
+    }
+
+    /**
+     * Checks if all 8 tiles adjacent to the tile at the given index are
+     * unoccupied, using the occupancy bits of the rows above, on, and below
+     * the tile. Assumes that the tile is not on the edge of the farm.
+     * @param index   The index of the tile.
+     * @return   Whether all the adjacent tiles are unoccupied.
+     */
+    public boolean areAdjacentTilesUnoccupied(int index) {
+        return !occupied.anySet(index - width - 1, index - width + 2)
+                && !occupied.get(index - 1) && !occupied.get(index + 1)
+                && !occupied.anySet(index + width - 1, index + width + 2);
+    }
+
+    /**
+     * Returns the tiles where a fruit tree can be planted right now: plowed
+     * and unoccupied tiles that are not on the edge of the farm and have no
+     * occupied adjacent tiles. The occupancy bits are spread to each tile's
+     * row neighbours and then to its column neighbours, so the tiles left
+     * unset are the ones whose whole 3x3 neighbourhood is unoccupied.
+     * @return   The tiles where a fruit tree can be planted.
+     */
+    public TileBitSet getFruitTreePlantableTiles() {
+        TileBitSet plantable = new TileBitSet(plowed);
+        plantable.and(interior);
+        plantable.andNot(occupied.dilate(1).dilate(width));
+        return plantable;
+    }
+
+    /**
+     * Updates the plantable tiles after the tile at the given index was
+     * plowed, unplowed, or became occupied or unoccupied. The tile itself
+     * may have opened or closed, and since fruit trees need unoccupied
+     * adjacent tiles, so may every tile in its 3x3 neighbourhood.
+     * @param index   The index of the tile that changed.
+     */
+    private void updatePlantableTiles(int index) {
+        openTiles.set(index, plowed.get(index) && !occupied.get(index));
+
+        int row = index / width;
+        int column = index - row * width;
+        for (int r = Math.max(row - 1, 1); r <= Math.min(row + 1, height - 2); r++) {
+            for (int c = Math.max(column - 1, 1); c <= Math.min(column + 1, width - 2); c++) {
+                int i = indexOf(r, c);
+                fruitTreeTiles.set(i, openTiles.get(i) && areAdjacentTilesUnoccupied(i));
+            }
+        }
+    }
+
+    /**
+     * Checks if a crop of the given type can be planted on the tile at the
+     * given index right now, that is, if the tile is plowed and unoccupied
+     * and, for fruit trees, has no occupied adjacent tiles. This does not
+     * take the player's money into account.
+     * @param type    The type of the crop.
+     * @param index   The index of the tile.
+     * @return   Whether the crop type can be planted on the tile.
+     */
+    public boolean isPlantable(CropType type, int index) {
+        return plantableTiles[type.ordinal()].get(index);
+    }
+
+    /**
+     * Returns a copy of the tiles where a crop of the given type can be
+     * planted right now. Unlike {@link #getFruitTreePlantableTiles()}, this
+     * does not go through the farm since the tiles are kept up to date as
+     * the farm changes.
+     * @param type   The type of the crop.
+     * @return   The tiles where the crop type can be planted.
+     */
+    public TileBitSet getPlantableTiles(CropType type) {
+        return new TileBitSet(plantableTiles[type.ordinal()]);
+    }
+
+    /**
+     * Returns a copy of the tiles whose crops are still growing, that is,
+     * neither harvestable nor withered yet.
+     * @return   The tiles with growing crops.
+     */
+    public TileBitSet getGrowingTiles() {
+        return new TileBitSet(growingTiles);
+    }
+
+    /**
+     * Returns a copy of the tiles whose crops can be harvested right now.
+     * @return   The tiles with harvestable crops.
+     */
+    public TileBitSet getHarvestableTiles() {
+        return new TileBitSet(harvestableTiles);
+    }
+
+    /**
+     * Returns a copy of the tiles whose crops have withered.
+     * @return   The tiles with withered crops.
+     */
+    public TileBitSet getWitheredTiles() {
+        return new TileBitSet(witheredTiles);
+    }
+
+    /**
+     * Returns a copy of the tiles that are plowed and have neither a crop nor
+     * a rock.
+     * @return   The plowed empty tiles.
+     */
+    public TileBitSet getOpenTiles() {
+        return new TileBitSet(openTiles);
+    }
+
+    /**
+     * Goes through the tiles whose crops can be harvested right now, in
+     * order of index. Unlike {@link #getHarvestableTiles()}, this does not
+     * copy the tiles, and empty stretches of the farm are skipped 64 tiles
+     * at a time. The next tile is only looked for once the action returns,
+     * so the action can change the crop on the tile it is given, such as by
+     * harvesting it, but should not change the crops on the tiles after it.
+     * @param action   Called with the index of each tile.
+     */
+    public void forEachHarvestableTile(IntConsumer action) {
+        forEach(harvestableTiles, action);
+    }
+
+    /**
+     * Goes through the tiles whose crops have withered, in order of index,
+     * the same way as {@link #forEachHarvestableTile(IntConsumer)}.
+     * @param action   Called with the index of each tile.
+     */
+    public void forEachWitheredTile(IntConsumer action) {
+        forEach(witheredTiles, action);
+    }
+
+    /**
+     * Goes through the set tiles of the given bit set in order of index.
+     * @param tiles    The tiles to go through.
+     * @param action   Called with the index of each tile.
+     */
+    private static void forEach(TileBitSet tiles, IntConsumer action) {
+        for (int i = tiles.nextSetBit(0); i != -1; i = tiles.nextSetBit(i + 1)) {
+            action.accept(i);
+        }
+    }
+
+    /**
+     * Marks the tile at the given index as changed, both for the view and
+     * for the next snapshot.
+     * @param index   The index of the tile.
+     */
+    private void markChanged(int index) {
+        changedTiles.set(index);
+        unsnapshottedBands[index >>> BAND_SHIFT] = true;
+    }
+
+    /**
+     * Returns whether any tile in the given band changed since the last time
+     * the band was taken for a snapshot, and forgets the change. Every band
+     * starts out changed, since no snapshot has been taken of it yet.
+     * @param band   The number of the band, which is the index of any of
+     *               its tiles shifted right by {@link #BAND_SHIFT}.
+     * @return   Whether the band changed.
+     * @see FarmSnapshot
+     */
+    public boolean takeBandChange(int band) {
+        boolean changed = unsnapshottedBands[band];
+        unsnapshottedBands[band] = false;
+        return changed;
+    }
+
+    /**
+     * Goes through the tiles that changed since the changes were last
+     * taken, in order of index, and forgets them. Unchanged tiles are
+     * skipped 64 at a time, so taking a handful of changes costs far less
+     * than redrawing every tile.
+     * @param action   Called with the index of each changed tile.
+     */
+    public void takeChangedTiles(IntConsumer action) {
+        for (int i = changedTiles.nextSetBit(0); i != -1; i = changedTiles.nextSetBit(i + 1)) {
+            changedTiles.clear(i);
+            action.accept(i);
+        }
+    }
+
+    /**
+     * Returns the fewest bytes {@link #writeTo(ByteBuffer)} writes for a farm
+     * with the given number of tiles, which is when no crop is planted.
+     * @param size   The number of tiles in the farm.
+     * @return   The number of bytes the saved state takes up at least.
+     */
+    public static long getMinimumSaveSize(int size) {
+        long bitSetBytes = (((long)size + 63) >>> 6) * Long.BYTES;
+        return Integer.BYTES + 2 * bitSetBytes + 2L * size;
+    }
+
+    /**
+     * Returns the number of bytes written by {@link #writeTo(ByteBuffer)}.
+     * @return   The number of bytes the saved state takes up.
+     */
+    public int getSaveSize() {
+        long bytes = Integer.BYTES + plowed.byteSize() + rocks.byteSize() + 2L * size()
+                + 3L * Integer.BYTES * plantedCount;
+        return Math.toIntExact(bytes);
+    }
+
+    /**
+     * Writes the state of the farm to the given buffer, not including its
+     * dimensions. The current day comes first, followed by the plowed and
+     * rock bits, then the kind and status flags of every tile's crop, and
+     * lastly the planted day, water, and fertilizer of the planted crops
+     * only, one crop after another. Anything that can be worked out from
+     * these, such as the counts and the schedules, is left out, as are the
+     * limit bonuses, which come from the player's stats.
+     * @param buffer   The buffer to be written to.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putInt(day);
+        plowed.writeTo(buffer);
+        rocks.writeTo(buffer);
+        for (int i = 0; i < store.size(); i++) {
+            buffer.put((byte)store.getCropKind(i));
+        }
+        for (int i = 0; i < store.size(); i++) {
+            buffer.put((byte)store.getCropFlags(i));
+        }
+
+        IntBuffer ints = buffer.asIntBuffer();
+        for (int i = 0; i < store.size(); i++) {
+            if (store.getCropKind(i) != NO_CROP) {
+                ints.put(store.getPlantedDay(i));
+                ints.put(store.getWater(i));
+                ints.put(store.getFertilizer(i));
+            }
+        }
+        buffer.position(buffer.position() + ints.position() * Integer.BYTES);
+    }
+
+    /**
+     * Creates the state of a farm with the given dimensions from a buffer
+     * written by {@link #writeTo(ByteBuffer)}, kept in arrays on the heap,
+     * then works out the counts, schedules, and plantable tiles from it.
+     * @param buffer   The buffer to be read from.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @return   The state of the farm.
+     */
+    public static FarmState readFrom(ByteBuffer buffer, int width, int height) {
+        FarmState state = new FarmState(width, height);
+        TileStore store = state.store;
+        state.day = buffer.getInt();
+        store.setDay(state.day);
+        state.plowed.readFrom(buffer);
+        state.rocks.readFrom(buffer);
+        for (int i = 0; i < store.size(); i++) {
+            store.setTileFlags(i, (state.plowed.get(i) ? TileStore.PLOWED : 0)
+                    | (state.rocks.get(i) ? TileStore.ROCK : 0));
+        }
+        for (int i = 0; i < store.size(); i++) {
+            store.setCropKind(i, buffer.get());
+        }
+        for (int i = 0; i < store.size(); i++) {
+            store.setCropFlags(i, buffer.get());
+        }
+
+        IntBuffer ints = buffer.asIntBuffer();
+        for (int i = 0; i < store.size(); i++) {
+            if (store.getCropKind(i) != NO_CROP) {
+                store.setPlantedDay(i, ints.get());
+                store.setWater(i, ints.get());
+                store.setFertilizer(i, ints.get());
+            }
+        }
+        buffer.position(buffer.position() + ints.position() * Integer.BYTES);
+
+        state.rebuildDerivedState();
+        return state;
+    }
+
+    /**
+     * Works out the occupied tiles, the counts, the schedules, and the
+     * plantable tiles from the tile flags and crop columns.
+     */
+    private void rebuildDerivedState() {
+        for (DayScheduler scheduler : schedulers) {
+            scheduler.skipTo(day);
+        }
+
+        occupied.copyFrom(rocks);
+        growingTiles.clearAll();
+        harvestableTiles.clearAll();
+        witheredTiles.clearAll();
+        plantedCount = 0;
+        witheredCount = 0;
+        for (int i = 0; i < store.size(); i++) {
+            int kind = store.getCropKind(i);
+            if (kind == NO_CROP) {
+                continue;
+            }
+            if (kind < 0 || kind >= KINDS.length) {
+                throw new IllegalArgumentException("Invalid crop kind " + kind + " on tile " + i);
+            }
+
+            plantedCount++;
+            occupied.set(i);
+            updateCropStateTiles(i, store.getCropFlags(i));
+            if (isWithered(i)) {
+                witheredCount++;
+            } else {
+                scheduleCrop(i);
+            }
+        }
+        occupiedCount = occupied.cardinality();
+        rebuildPlantableTiles();
+    }
+
+    /**
+     * Works out the plantable tiles from the plowed and occupied tiles.
+     */
+    private void rebuildPlantableTiles() {
+        openTiles.copyFrom(plowed);
+        openTiles.andNot(occupied);
+        fruitTreeTiles.copyFrom(getFruitTreePlantableTiles());
+    }
+
+    /**
+     * Sets or clears the given flag of the tile at the given index in the
+     * store.
+     * @param index   The index of the tile.
+     * @param flag    The tile flag.
+     * @param value   Whether the flag is to be set or cleared.
+     */
+    private void setTileFlag(int index, int flag, boolean value) {
+        int flags = store.getTileFlags(index);
+        store.setTileFlags(index, value ? flags | flag : flags & ~flag);
+    }
+
+    public boolean isPlowed(int index) {
+        return plowed.get(index);
+    }
+    public void setPlowed(int index, boolean value) {
+        plowed.set(index, value);
+        setTileFlag(index, TileStore.PLOWED, value);
+        markChanged(index);
+        updatePlantableTiles(index);
+    }
+    public boolean hasRock(int index) {
+        return rocks.get(index);
+    }
+    public void setRock(int index, boolean value) {
+        if (value != hasRock(index) && !hasCrop(index)) {
+            occupiedCount += value ? 1 : -1;
+            occupied.set(index, value);
+            updatePlantableTiles(index);
+        }
+        rocks.set(index, value);
+        setTileFlag(index, TileStore.ROCK, value);
+        markChanged(index);
+    }
+    public boolean hasCrop(int index) {
+        return store.getCropKind(index) != NO_CROP;
+    }
+    public boolean isOccupied(int index) {
+        return occupied.get(index);
+    }
+    public int getCropFlags(int index) {
+        return store.getCropFlags(index);
+    }
+    public boolean isHarvestable(int index) {
+        return (store.getCropFlags(index) & HARVESTABLE) != 0;
+    }
+    public boolean isWithered(int index) {
+        return (store.getCropFlags(index) & WITHERED) != 0;
+    }
+    public int getAge(int index) {
+        return day - store.getPlantedDay(index);
+    }
+    public int getDay() {
+        return day;
+    }
+    public int getWater(int index) {
+        return store.getWater(index);
+    }
+    public int getFertilizer(int index) {
+        return store.getFertilizer(index);
+    }
+    public int getWaterLimitBonus() {
+        return waterLimitBonus;
+    }
+    public int getFertilizerLimitBonus() {
+        return fertilizerLimitBonus;
+    }
+    public int getPlantedCount() {
+        return plantedCount;
+    }
+    public int getWitheredCount() {
+        return witheredCount;
+    }
+    public int getOccupiedCount() {
+        return occupiedCount;
+    }
+    public int getWidth() {
+        return width;
+    }
+    public int getHeight() {
+        return height;
+    }
+    public TileStore getStore() {
+        return store;
+    }
+    public int getBandCount() {
+        return schedulers.length;
+    }
+    public int size() {
+        return store.size();
+    }
+}
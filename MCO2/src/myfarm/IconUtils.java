@@ -1,4 +1,8 @@
+package myfarm;
+
 import java.awt.Image;
+import java.util.EnumMap;
+import java.util.Map;
 
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
@@ -33,4 +37,23 @@ public final class IconUtils {
         Image resizedImage = icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         return new ImageIcon(resizedImage);
     }
+
+    /**
+     * Creates and resizes an icon for every crop at the given stage, such as
+     * "young" or "seeds". The image of each crop is expected at
+     * ./assets/crops/[stage]/[crop name]_[stage].png in lowercase.
+     * @param stage    The stage of the crops shown in the images.
+     * @param width    The width of the images.
+     * @param height   The height of the images.
+     * @return   A map from each crop name to its icon.
+     */
+    public static Map<CropName, Icon> resizeCropIcons(String stage, int width, int height) {
+        Map<CropName, Icon> icons = new EnumMap<>(CropName.class);
+        for (CropName name : CropName.values()) {
+            String imagePath = "./assets/crops/" + stage + "/" + name.getStringName().toLowerCase() + "_" + stage
+                    + ".png";
+            icons.put(name, resize(imagePath, width, height));
+        }
+        return icons;
+    }
 }
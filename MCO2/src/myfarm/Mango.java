@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the mango crop.
  */
@@ -7,6 +9,6 @@ public class Mango extends Crop {
      * Creates a mango crop.
      */
     public Mango() {
-        super("Mango", "Fruit Tree", 100, 8, 25, 10, 5, 15, 7, 7, 4, 4, 1);
+        super(CropDefinition.MANGO);
     }
 }
@@ -0,0 +1,397 @@
+package myfarm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores the per-tile columns of a farm in a memory-mapped file, so that the
+ * tiles of a farm too large for the heap are kept by the operating system,
+ * which only loads the pages that are touched and writes changes back to the
+ * file on its own. The file starts with a header made up of a magic number,
+ * the version of the format, the dimensions of the farm, the current day,
+ * whether the game was saved, and the player's stats as of the last save,
+ * followed by one fixed-width record per tile:
+ *
+ *    Offset   Size   Value
+ *    0        1      Tile flags
+ *    1        1      Crop kind
+ *    2        1      Crop status flags
+ *    3        1      Unused
+ *    4        4      Planted day
+ *    8        4      Water count
+ *    12       4      Fertilizer count
+ *
+ * The records are followed by the bit sets a farm works out from them, such
+ * as which tiles are occupied or harvestable, so that a saved farm can be
+ * opened again without reading every record. The bit sets are only written
+ * when the game is saved, so the header says whether the game was saved
+ * since the records last changed, and the first change after a save clears
+ * that before anything else in the file is changed.
+ *
+ * Since a single mapping cannot be larger than 2 GB, the records are mapped
+ * in chunks of 2^26 tiles. Numbers are stored in little-endian byte order.
+ */
+public class MappedTileStore implements TileStore {
+    public static final int MAGIC = 0x4D59544C; // "MYTL"
+    public static final int VERSION = 3;
+    public static final int RECORD_SIZE = 16;
+
+    // Number of bit sets kept after the records
+    public static final int BIT_SET_COUNT = 6;
+
+    // Header layout; the stats take up the rest of the header, and a length
+    // of 0 for the rank name means that no stats were saved yet
+    private static final int HEADER_SIZE = 160;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int HEIGHT_OFFSET = 12;
+    private static final int DAY_OFFSET = 16;
+    private static final int SAVED_OFFSET = 20;
+    private static final int STATS_OFFSET = 32;
+    private static final int STATS_SIZE = HEADER_SIZE - STATS_OFFSET;
+
+    // Record layout
+    private static final int TILE_FLAGS_OFFSET = 0;
+    private static final int CROP_KIND_OFFSET = 1;
+    private static final int CROP_FLAGS_OFFSET = 2;
+    private static final int PLANTED_DAY_OFFSET = 4;
+    private static final int WATER_OFFSET = 8;
+    private static final int FERTILIZER_OFFSET = 12;
+
+    private static final int CHUNK_SHIFT = 26;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final int size;
+    private final boolean created;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final MappedByteBuffer bitSets;
+
+    // Whether the header says the game was saved; only read and cleared by
+    // the first change after a save, so it is not kept in sync across
+    // threads, and a thread that sees it late only clears it again
+    private boolean saved;
+
+    /**
+     * Creates a store over the given mappings.
+     * @param size      The number of tiles in the store.
+     * @param created   Whether the file was created for this store.
+     * @param header    The mapping of the header.
+     * @param chunks    The mappings of the records.
+     * @param bitSets   The mapping of the bit sets.
+     */
+    private MappedTileStore(int size, boolean created, MappedByteBuffer header, MappedByteBuffer[] chunks,
+            MappedByteBuffer bitSets) {
+        this.size = size;
+        this.created = created;
+        this.header = header;
+        this.chunks = chunks;
+        this.bitSets = bitSets;
+        this.saved = header.getInt(SAVED_OFFSET) != 0;
+    }
+
+    /**
+     * Opens the store in the file at the given path for a farm with the
+     * given dimensions. If the file does not exist or is empty, it is created
+     * with every tile unplowed, without a rock, and without a crop. Only the
+     * header is written, so creating a store is instant no matter how large
+     * the farm is, and the file only takes up disk space as tiles are
+     * changed on file systems that support sparse files.
+     * @param path     The path of the file.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     * @return   The store.
+     * @throws IOException When the file cannot be opened or mapped, or is
+     *                     not a store for a farm with these dimensions.
+     */
+    public static MappedTileStore open(Path path, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Farm dimensions have to be positive");
+        }
+        int size = Math.multiplyExact(width, height);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            boolean created = channel.size() == 0;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (created) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(VERSION_OFFSET, VERSION);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putInt(HEIGHT_OFFSET, height);
+            } else if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not a MyFarm tile store: " + path);
+            } else if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Unsupported tile store version " + header.getInt(VERSION_OFFSET) + ": "
+                        + path);
+            } else if (header.getInt(WIDTH_OFFSET) != width || header.getInt(HEIGHT_OFFSET) != height) {
+                throw new IOException("Tile store is for a " + header.getInt(WIDTH_OFFSET) + "x"
+                        + header.getInt(HEIGHT_OFFSET) + " farm: " + path);
+            }
+
+            // mapping past the end of the file extends it
+            MappedByteBuffer[] chunks = new MappedByteBuffer[((size - 1) >>> CHUNK_SHIFT) + 1];
+            for (int chunk = 0; chunk < chunks.length; chunk++) {
+                long firstTile = (long)chunk << CHUNK_SHIFT;
+                long tiles = Math.min(size - firstTile, 1L << CHUNK_SHIFT);
+                chunks[chunk] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + firstTile * RECORD_SIZE,
+                        tiles * RECORD_SIZE);
+                chunks[chunk].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            long bitSetsOffset = HEADER_SIZE + (long)size * RECORD_SIZE;
+            MappedByteBuffer bitSets = channel.map(FileChannel.MapMode.READ_WRITE, bitSetsOffset,
+                    (long)BIT_SET_COUNT * bitSetSize(size));
+            bitSets.order(ByteOrder.LITTLE_ENDIAN);
+
+            return new MappedTileStore(size, created, header, chunks, bitSets);
+        }
+    }
+
+    /**
+     * Returns the number of bytes a bit set of the given number of tiles
+     * takes up in the file.
+     * @param size   The number of tiles in the bit set.
+     * @return   The number of bytes the bit set takes up.
+     * @see TileBitSet#byteSize()
+     */
+    private static int bitSetSize(int size) {
+        return (((size - 1) >>> 6) + 1) * Long.BYTES;
+    }
+
+    /**
+     * Writes every change made so far to the file.
+     */
+    public void force() {
+        header.force();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        bitSets.force();
+    }
+
+    /**
+     * Saves the given player stats and bit sets in the file and writes
+     * everything to the file, then marks the game as saved. The bit sets are
+     * written in the order given, and have to be read back in the same
+     * order.
+     * @param stats     The player's stats.
+     * @param bitSets   The bit sets to be saved, no more than
+     *                  {@link #BIT_SET_COUNT} and each as large as the store.
+     */
+    public void save(Stats stats, TileBitSet... bitSets) {
+        if (stats.getSaveSize() > STATS_SIZE) {
+            throw new IllegalArgumentException("Stats are too large to be saved: " + stats.getSaveSize() + " bytes");
+        }
+        checkBitSets(bitSets);
+
+        beginChange();
+        stats.writeTo(header.slice(STATS_OFFSET, STATS_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+        ByteBuffer buffer = this.bitSets.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (TileBitSet bitSet : bitSets) {
+            bitSet.writeTo(buffer);
+        }
+        force();
+
+        // only marked as saved once everything else is in the file
+        header.putInt(SAVED_OFFSET, 1);
+        header.force();
+        saved = true;
+    }
+
+    /**
+     * Reads the bit sets saved by {@link #save(Stats, TileBitSet...)} into
+     * the given bit sets, in the same order. These are only up to date if
+     * the game is still saved.
+     * @param bitSets   The bit sets to be read into.
+     * @see #isSaved()
+     */
+    public void readBitSets(TileBitSet... bitSets) {
+        checkBitSets(bitSets);
+        ByteBuffer buffer = this.bitSets.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (TileBitSet bitSet : bitSets) {
+            bitSet.readFrom(buffer);
+        }
+    }
+
+    /**
+     * Checks that the given bit sets fit in the file.
+     * @param bitSets   The bit sets to be saved or read.
+     */
+    private void checkBitSets(TileBitSet[] bitSets) {
+        if (bitSets.length > BIT_SET_COUNT) {
+            throw new IllegalArgumentException("No more than " + BIT_SET_COUNT + " bit sets can be saved");
+        }
+        for (TileBitSet bitSet : bitSets) {
+            if (bitSet.size() != size) {
+                throw new IllegalArgumentException("Bit set has " + bitSet.size() + " tiles instead of " + size);
+            }
+        }
+    }
+
+    /**
+     * Returns the player stats of the last save. Unlike the bit sets, these
+     * are kept even after the game changes, so they may be older than the
+     * tiles.
+     * @return
+     *    The player's stats   if the game was ever saved.
+     *    null                 otherwise.
+     */
+    public Stats readStats() {
+        if (header.getInt(STATS_OFFSET) == 0) {
+            return null;
+        }
+        return Stats.readFrom(header.slice(STATS_OFFSET, STATS_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Marks the game as no longer saved before the file is changed, and
+     * writes that to the file right away, so that a file changed after it
+     * was saved is never taken for a saved one, even if the game stops
+     * before it is saved again.
+     */
+    private void beginChange() {
+        if (saved) {
+            saved = false;
+            header.putInt(SAVED_OFFSET, 0);
+            header.force();
+        }
+    }
+
+    /**
+     * Returns the mapping that holds the record of the tile at the given
+     * index.
+     * @param index   The index of the tile.
+     * @return   The mapping holding the tile's record.
+     */
+    private MappedByteBuffer chunkOf(int index) {
+        return chunks[index >>> CHUNK_SHIFT];
+    }
+
+    /**
+     * Returns the position of the given field of the record of the tile at
+     * the given index within its mapping.
+     * @param index    The index of the tile.
+     * @param offset   The offset of the field within the record.
+     * @return   The position of the field.
+     */
+    private static int positionOf(int index, int offset) {
+        return (index & CHUNK_MASK) * RECORD_SIZE + offset;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the store kept in arrays on the heap, since a copy
+     * of the file would be as large as the file. This goes through every
+     * tile, so it is only meant for farms that fit in the heap.
+     * @return   The copy of the store.
+     */
+    @Override
+    public ArrayTileStore copy() {
+        ArrayTileStore copy = new ArrayTileStore(size);
+        copy.setDay(getDay());
+        for (int i = 0; i < size; i++) {
+            copy.setTileFlags(i, getTileFlags(i));
+            copy.setCropKind(i, getCropKind(i));
+            copy.setCropFlags(i, getCropFlags(i));
+            copy.setPlantedDay(i, getPlantedDay(i));
+            copy.setWater(i, getWater(i));
+            copy.setFertilizer(i, getFertilizer(i));
+        }
+        return copy;
+    }
+
+    /**
+     * Returns whether the file was created when the store was opened, in
+     * which case every tile is still unplowed, without a rock, and without a
+     * crop.
+     * @return   Whether the file was created for this store.
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Returns whether the game was saved since the records last changed, in
+     * which case the saved bit sets are up to date with the records.
+     * @return   Whether the game is saved.
+     */
+    public boolean isSaved() {
+        return saved;
+    }
+
+    @Override
+    public int getDay() {
+        return header.getInt(DAY_OFFSET);
+    }
+    @Override
+    public void setDay(int day) {
+        beginChange();
+        header.putInt(DAY_OFFSET, day);
+    }
+    @Override
+    public int getTileFlags(int index) {
+        return chunkOf(index).get(positionOf(index, TILE_FLAGS_OFFSET));
+    }
+    @Override
+    public void setTileFlags(int index, int flags) {
+        beginChange();
+        chunkOf(index).put(positionOf(index, TILE_FLAGS_OFFSET), (byte)flags);
+    }
+    @Override
+    public int getCropKind(int index) {
+        return chunkOf(index).get(positionOf(index, CROP_KIND_OFFSET));
+    }
+    @Override
+    public void setCropKind(int index, int kind) {
+        beginChange();
+        chunkOf(index).put(positionOf(index, CROP_KIND_OFFSET), (byte)kind);
+    }
+    @Override
+    public int getCropFlags(int index) {
+        return chunkOf(index).get(positionOf(index, CROP_FLAGS_OFFSET));
+    }
+    @Override
+    public void setCropFlags(int index, int flags) {
+        beginChange();
+        chunkOf(index).put(positionOf(index, CROP_FLAGS_OFFSET), (byte)flags);
+    }
+    @Override
+    public int getPlantedDay(int index) {
+        return chunkOf(index).getInt(positionOf(index, PLANTED_DAY_OFFSET));
+    }
+    @Override
+    public void setPlantedDay(int index, int day) {
+        beginChange();
+        chunkOf(index).putInt(positionOf(index, PLANTED_DAY_OFFSET), day);
+    }
+    @Override
+    public int getWater(int index) {
+        return chunkOf(index).getInt(positionOf(index, WATER_OFFSET));
+    }
+    @Override
+    public void setWater(int index, int water) {
+        beginChange();
+        chunkOf(index).putInt(positionOf(index, WATER_OFFSET), water);
+    }
+    @Override
+    public int getFertilizer(int index) {
+        return chunkOf(index).getInt(positionOf(index, FERTILIZER_OFFSET));
+    }
+    @Override
+    public void setFertilizer(int index, int fertilizer) {
+        beginChange();
+        chunkOf(index).putInt(positionOf(index, FERTILIZER_OFFSET), fertilizer);
+    }
+}
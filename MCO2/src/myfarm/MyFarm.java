@@ -0,0 +1,902 @@
+package myfarm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the main model of the game where most of the logic go.
+ */
+public class MyFarm {
+    public static final String NO_TILE_SELECTED = "No tile selected.";
+    public static final String NO_CROP_SELECTED = "No crop to plant.";
+    public static final String CROP_NOT_PLANTABLE = "The crop is not plantable on this tile!";
+
+    public static final Crop cheapestCrop = new Turnip(); // change if necessary
+
+    public static final int DEFAULT_WIDTH = 10;
+    public static final int DEFAULT_HEIGHT = 5;
+
+    private FarmState state;
+    private RandomGenerator random;
+    private Stats playerStats;
+    private boolean running;
+    private String reasonForGameEnd;
+
+    // Latest published snapshot, read by other threads without locking
+    private final AtomicReference<FarmSnapshot> snapshot = new AtomicReference<FarmSnapshot>();
+
+    /**
+     * Creates and instantiates the model with the default farm dimensions
+     * given the number of rocks to start with.
+     * @param numberOfRocks   The number of rocks to start with.
+     */
+    public MyFarm(int numberOfRocks) {
+        this(DEFAULT_WIDTH, DEFAULT_HEIGHT, numberOfRocks);
+    }
+
+    /**
+     * Creates and instantiates the model given the farm dimensions and the
+     * number of rocks to start with. The farm gets its own random number
+     * generator, so farms used on different threads do not contend over one.
+     * @param width           The number of columns in the farm.
+     * @param height          The number of rows in the farm.
+     * @param numberOfRocks   The number of rocks to start with.
+     */
+    public MyFarm(int width, int height, int numberOfRocks) {
+        this(width, height, numberOfRocks, new SplittableRandom());
+    }
+
+    /**
+     * Creates and instantiates the model given the farm dimensions, the
+     * number of rocks to start with, and the seed of its random number
+     * generator. Farms created with the same seed and given the same
+     * actions play out exactly the same.
+     * @param width           The number of columns in the farm.
+     * @param height          The number of rows in the farm.
+     * @param numberOfRocks   The number of rocks to start with.
+     * @param seed            The seed of the random number generator.
+     */
+    public MyFarm(int width, int height, int numberOfRocks, long seed) {
+        this(width, height, numberOfRocks, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates and instantiates the model given the farm dimensions, the
+     * number of rocks to start with, and the random number generator used
+     * for placing rocks and for crop yields.
+     * @param width           The number of columns in the farm.
+     * @param height          The number of rows in the farm.
+     * @param numberOfRocks   The number of rocks to start with.
+     * @param random          The random number generator of the farm.
+     */
+    public MyFarm(int width, int height, int numberOfRocks, RandomGenerator random) {
+        this(new FarmState(width, height), numberOfRocks, random);
+    }
+
+    /**
+     * Creates and instantiates the model on the given empty farm state,
+     * given the number of rocks to start with and the random number
+     * generator of the farm.
+     * @param state           The state of the farm's tiles.
+     * @param numberOfRocks   The number of rocks to start with.
+     * @param random          The random number generator of the farm.
+     */
+    private MyFarm(FarmState state, int numberOfRocks, RandomGenerator random) {
+        if (numberOfRocks < 0 || numberOfRocks > state.size()) {
+            throw new IllegalArgumentException("Number of rocks has to be between 0 and the number of tiles");
+        }
+
+        running = true;
+        this.random = random;
+        
+        this.state = state;
+
+        generateRocks(numberOfRocks);
+
+        playerStats = createStartingStats();
+        updateLimitBonuses();
+    }
+
+    /**
+     * Creates and instantiates the model from the given farm state and
+     * player stats, such as ones loaded from a save file.
+     * @param state         The state of the farm's tiles.
+     * @param playerStats   The player's stats.
+     * @param random        The random number generator of the farm.
+     */
+    public MyFarm(FarmState state, Stats playerStats, RandomGenerator random) {
+        running = true;
+        this.random = random;
+        this.state = state;
+        this.playerStats = playerStats;
+        updateLimitBonuses();
+    }
+
+    /**
+     * Creates and instantiates the model with its tiles kept in a
+     * memory-mapped file at the given path, so that farms too large for the
+     * heap can be played and the operating system keeps the tiles in the
+     * file as they change. If the file does not exist yet, it is created
+     * with the given number of rocks. Otherwise, the farm in the file is
+     * continued:
+     *
+     *    The tiles and the day     are always continued as they are in the
+     *                              file.
+     *    The player's stats        are the ones of the last
+     *                              {@link #saveMapped()}, along with the
+     *                              limit bonuses of their rank, or the
+     *                              starting stats if the game was never
+     *                              saved.
+     *    The counts and schedules  are read from the bit sets of the last
+     *                              save if nothing changed since, which only
+     *                              reads the records of the growing and
+     *                              harvestable crops. Otherwise, such as when
+     *                              the game stopped without being saved, they
+     *                              are worked out from every tile, which
+     *                              reads the whole file.
+     *
+     * Whether the game has ended is not kept, and is checked again on the
+     * next action.
+     * @param path            The path of the file.
+     * @param width           The number of columns in the farm.
+     * @param height          The number of rows in the farm.
+     * @param numberOfRocks   The number of rocks to start with if the file
+     *                        is created.
+     * @param random          The random number generator of the farm.
+     * @return   The model.
+     * @throws IOException When the file cannot be opened or is not a tile
+     *                     store for a farm with these dimensions.
+     * @see MappedTileStore
+     */
+    public static MyFarm openMapped(Path path, int width, int height, int numberOfRocks, RandomGenerator random)
+            throws IOException {
+        MappedTileStore store = MappedTileStore.open(path, width, height);
+        if (store.isCreated()) {
+            return new MyFarm(new FarmState(width, height, store), numberOfRocks, random);
+        }
+
+        Stats stats = store.readStats();
+        if (stats == null) {
+            stats = createStartingStats();
+        }
+        FarmState state = store.isSaved() ? FarmState.openSaved(width, height, store)
+                : FarmState.open(width, height, store);
+        return new MyFarm(state, stats, random);
+    }
+
+    /**
+     * Saves the player's stats and what the farm works out from its tiles
+     * in the memory-mapped file the farm is kept in, and writes every change
+     * to the file, so that {@link #openMapped(Path, int, int, int,
+     * RandomGenerator)} continues the game from here without reading every
+     * tile.
+     * @throws IllegalStateException When the farm is not kept in a
+     *                               memory-mapped file.
+     * @see FarmState#saveMapped(Stats)
+     */
+    public void saveMapped() {
+        state.saveMapped(playerStats);
+    }
+
+    /**
+     * Returns a copy of the game that can be played without changing this
+     * game, such as to try out what would happen after a sequence of
+     * actions. The copy's random number generator is split off this game's
+     * generator, or seeded from it if it cannot be split, so forking a
+     * seeded game gives the same forecast every time it is played out. This
+     * moves this game's generator on, the same as drawing a number from it.
+     * @return   The copy of the game.
+     * @see #fork(RandomGenerator)
+     */
+    public MyFarm fork() {
+        if (random instanceof RandomGenerator.SplittableGenerator splittable) {
+            return fork(splittable.split());
+        }
+        return fork(new SplittableRandom(random.nextLong()));
+    }
+
+    /**
+     * Returns a copy of the game that can be played without changing this
+     * game, using the given random number generator for the copy's crop
+     * yields. The farm's tiles are copied as whole arrays instead of tile by
+     * tile, so forking costs far less than creating a new game.
+     * @param random   The random number generator of the copy.
+     * @return   The copy of the game.
+     * @see FarmState#FarmState(FarmState)
+     */
+    public MyFarm fork(RandomGenerator random) {
+        MyFarm fork = new MyFarm(new FarmState(state), new Stats(playerStats), random);
+        fork.running = running;
+        fork.reasonForGameEnd = reasonForGameEnd;
+        return fork;
+    }
+
+    /**
+     * Creates the stats a player starts the game with.
+     * @return   The starting stats of a player.
+     */
+    private static Stats createStartingStats() {
+        Stats stats = Stats.createDefaultRank();
+        stats.setObjectCoins(100);
+        return stats;
+    }
+
+    /**
+     * Checks the game-ending conditions of the game and returns whether the
+     * game should continue or not.
+     * @return   Whether the game should continue or not.
+     */
+    public boolean shouldGameContinue() {
+        if (!canPlayerAffordCheapestCrop() && !isThereAtLeastOneNonWitheredCrop()) {
+            running = false;
+            reasonForGameEnd = "No growing crops and cannot afford to buy new ones.";
+        } else if (areAllTilesOccupiedByWitheredCrops()) {
+            running = false;
+            reasonForGameEnd = "All tiles are occupied by withered crops.";
+        }
+
+        return running;
+    }
+
+    /**
+     * Checks if the player can still afford the cheapest crop. Factors in the
+     * seed cost reduction of the player.
+     * @return   Whether the player can afford the cheapest crop.
+     */
+    private boolean canPlayerAffordCheapestCrop() {
+        return playerStats.getObjectCoins() >= cheapestCrop.getBaseSeedCost() - playerStats.getSeedCostReduction();
+    }
+
+    /**
+     * Checks if there is at least non-withered crop in the farm.
+     * @return   Whether there is at least one non-withered crop in the farm.
+     */
+    private boolean isThereAtLeastOneNonWitheredCrop() {
+        return state.getPlantedCount() > state.getWitheredCount();
+    }
+
+    /**
+     * Checks if the farm lot is entirely filled with withered crops. Does
+     * not ignore rocks and empty tiles.
+     * @return   Whether the farm is entirely filled with withered crops or
+     *           not.
+     */
+    private boolean areAllTilesOccupiedByWitheredCrops() {
+        return state.getWitheredCount() == state.size();
+    }
+
+    /**
+     * Places exactly the given number of rocks on distinct tiles of a farm
+     * that has no rocks yet, with every set of tiles equally likely. For each
+     * of the last indices of the farm, a tile is picked among the indices up
+     * to that one, and if the picked tile already has a rock, the rock is
+     * placed on that index instead. Each rock costs a single random number,
+     * no matter how many of the tiles end up with rocks.
+     * @param numberOfRocks   The number of rocks to be placed.
+     */
+    private void generateRocks(int numberOfRocks) {
+        int size = state.size();
+        for (int last = size - numberOfRocks; last < size; last++) {
+            int index = random.nextInt(last + 1);
+            state.setRock(state.hasRock(index) ? last : index, true);
+        }
+    }
+
+    /**
+     * Attempts to plow the given tile.
+     * @param tile   The tile to be plowed.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport plowTile(Tile tile) {
+        if (tile == null) {
+            return new TileActionReport(false, NO_TILE_SELECTED, 0, 0);
+        }
+
+        return tile.plow();
+    }
+
+    /**
+     * Attempts to plant the given crop on the given tile.
+     * @param tile   The tile on which the crop is to be planted.
+     * @param crop   The crop to be planted on the tile.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport plantCropOnTile(Tile tile, Crop crop) {
+        TileActionResult result = new TileActionResult();
+        doActionOnTile(FarmAction.PLANT, tile, crop, result);
+        return result.toReport();
+    }
+
+    /**
+     * Attempts to harvest the crop on the given tile.
+     * @param tile   The tile from which the crop to be harvested resides.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport harvestCropFromTile(Tile tile) {
+        if (tile == null) {
+            return new HarvestCropReport(false, NO_TILE_SELECTED, 0, 0, 0, 0);
+        }
+
+        return tile.harvest(playerStats.getBonusEarnings(), random);
+    }
+
+    /**
+     * Attempts to water the crop on the given tile.
+     * @param tile   The tile from which the crop to be watered resides.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport waterCropOnTile(Tile tile) {
+        if (tile == null) {
+            return new TileActionReport(false, NO_TILE_SELECTED, 0, 0);
+        }
+
+        return tile.water();
+    }
+
+    /**
+     * Attempts to fertilize the crop on the given tile.
+     * @param tile   The tile from which the crop to be fertilized resides.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport fertilizeCropOnTile(Tile tile) {
+        if (tile == null) {
+            return new TileActionReport(false, NO_TILE_SELECTED, 0, 0);
+        }
+
+        return tile.fertilize(playerStats.getObjectCoins());
+    }
+
+    /**
+     * Attempts to dig something on the given tile.
+     * @param tile   The tile to be used the shovel on.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport digSomethingOnTile(Tile tile) {
+        if (tile == null) {
+            return new TileActionReport(false, NO_TILE_SELECTED, 0, 0);
+        }
+
+        return tile.dig(playerStats.getObjectCoins());
+    }
+
+    /**
+     * Attempts to mine the rock on the given tile.
+     * @param tile   The tile to be used the pickaxe on.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport mineRockFromTile(Tile tile) {
+        if (tile == null) {
+            return new TileActionReport(false, NO_TILE_SELECTED, 0, 0);
+        }
+
+        return tile.mine(playerStats.getObjectCoins());
+    }
+
+    /**
+     * Attempts to do the given action on the given tile with the player's
+     * current money, and writes the result to the given result instead of
+     * creating a report. The player's stats are not updated; the result can
+     * be given to {@link #updatePlayerStatsFromResult(TileActionResult)}
+     * afterwards.
+     * @param action   The tile action to be done.
+     * @param tile     The tile to do the action on.
+     * @param crop     The crop to be planted. Only used for planting.
+     * @param result   The result to be written to.
+     * @return   Whether the action was a success or not.
+     */
+    public boolean doActionOnTile(FarmAction action, Tile tile, Crop crop, TileActionResult result) {
+        if (!action.isTileAction()) {
+            throw new IllegalArgumentException("Not a tile action: " + action);
+        }
+
+        if (tile == null) {
+            return result.reset(TileActionOutcome.NO_TILE_SELECTED);
+        }
+
+        if (action == FarmAction.PLANT) {
+            if (crop == null) {
+                return result.reset(TileActionOutcome.PLANT_NO_CROP);
+            }
+        }
+
+        return doActionOnTile(action, tile, crop, playerStats.getObjectCoins(), result);
+    }
+
+    /**
+     * Attempts to do the given action on every tile in the rectangle between
+     * the given corners, both inclusive, one row after another. Each tile is
+     * acted on with the money left after the tiles before it, the same as
+     * doing the action on them one by one. The player's stats are not
+     * updated; the returned report can be given to
+     * {@link #updatePlayerStatsFromReport(ActionReport)} once for the whole
+     * batch.
+     * @param action         The tile action to be done.
+     * @param fromRow        Row position of the first corner.
+     * @param fromColumn     Column position of the first corner.
+     * @param toRow          Row position of the opposite corner.
+     * @param toColumn       Column position of the opposite corner.
+     * @param crop           The crop to be planted. Only used for planting.
+     * @return   A report containing the combined feedback about the action.
+     */
+    public BatchActionReport doActionOnArea(FarmAction action, int fromRow, int fromColumn, int toRow, int toColumn,
+            Crop crop) {
+        if (getTile(fromRow, fromColumn) == null || getTile(toRow, toColumn) == null) {
+            throw new IllegalArgumentException("The area has to be within the farm");
+        }
+
+        BatchActionReport batchReport = new BatchActionReport(action);
+        if (!prepareBatch(action, crop, batchReport)) {
+            return batchReport;
+        }
+
+        TileActionResult result = new TileActionResult();
+        for (int row = Math.min(fromRow, toRow); row <= Math.max(fromRow, toRow); row++) {
+            for (int column = Math.min(fromColumn, toColumn); column <= Math.max(fromColumn, toColumn); column++) {
+                double playerMoney = playerStats.getObjectCoins() - batchReport.getMoneyCost();
+                doActionOnTile(action, new Tile(state, row, column), crop, playerMoney, result);
+                batchReport.add(result);
+            }
+        }
+        batchReport.finish();
+
+        return batchReport;
+    }
+
+    /**
+     * Attempts to do the given action on each of the given tiles in order.
+     * Each tile is acted on with the money left after the tiles before it,
+     * the same as doing the action on them one by one. The player's stats
+     * are not updated; the returned report can be given to
+     * {@link #updatePlayerStatsFromReport(ActionReport)} once for the whole
+     * batch.
+     * @param action   The tile action to be done.
+     * @param tiles    The tiles to do the action on.
+     * @param crop     The crop to be planted. Only used for planting.
+     * @return   A report containing the combined feedback about the action.
+     */
+    public BatchActionReport doActionOnTiles(FarmAction action, Collection<Tile> tiles, Crop crop) {
+        BatchActionReport batchReport = new BatchActionReport(action);
+        if (!prepareBatch(action, crop, batchReport)) {
+            return batchReport;
+        }
+
+        TileActionResult result = new TileActionResult();
+        for (Tile tile : tiles) {
+            double playerMoney = playerStats.getObjectCoins() - batchReport.getMoneyCost();
+            doActionOnTile(action, tile, crop, playerMoney, result);
+            batchReport.add(result);
+        }
+        batchReport.finish();
+
+        return batchReport;
+    }
+
+    /**
+     * Attempts to harvest every crop on the farm that can be harvested right
+     * now in one pass, going through the tiles in order of index. Only the
+     * harvestable tiles are looked at, and each one is harvested with the
+     * money left after the tiles before it, the same as harvesting them one
+     * by one. The player's stats are not updated; the returned report can be
+     * given to {@link #updatePlayerStatsFromReport(ActionReport)} once for
+     * all of them.
+     * @return   A report containing the combined feedback about harvesting.
+     */
+    public BatchActionReport harvestAll() {
+        return doActionOnEach(FarmAction.HARVEST, state::forEachHarvestableTile);
+    }
+
+    /**
+     * Attempts to dig up every withered crop on the farm in one pass, the
+     * same way as {@link #harvestAll()}, which leaves their tiles unplowed.
+     * @return   A report containing the combined feedback about digging.
+     */
+    public BatchActionReport clearAllWithered() {
+        return doActionOnEach(FarmAction.DIG, state::forEachWitheredTile);
+    }
+
+    /**
+     * Attempts to do the given action on each of the tiles gone through by
+     * the given index, in order of index, with the money left after the
+     * tiles before it. The index is gone through directly instead of being
+     * copied, which is safe since harvesting or digging up a crop only takes
+     * its own tile out of the index.
+     * @param action        The tile action to be done.
+     * @param forEachTile   Goes through the index of the tiles to do the
+     *                      action on, such as
+     *                      {@link FarmState#forEachHarvestableTile(IntConsumer)}.
+     * @return   A report containing the combined feedback about the action.
+     */
+    private BatchActionReport doActionOnEach(FarmAction action, Consumer<IntConsumer> forEachTile) {
+        BatchActionReport batchReport = new BatchActionReport(action);
+        TileActionResult result = new TileActionResult();
+        int width = state.getWidth();
+        forEachTile.accept(i -> {
+            double playerMoney = playerStats.getObjectCoins() - batchReport.getMoneyCost();
+            doActionOnTile(action, new Tile(state, i / width, i % width), null, playerMoney, result);
+            batchReport.add(result);
+        });
+        batchReport.finish();
+
+        return batchReport;
+    }
+
+    /**
+     * Checks that the given action can be done on many tiles.
+     * @param action        The tile action to be done.
+     * @param crop          The crop to be planted. Only used for planting.
+     * @param batchReport   The report to write feedback to if the action
+     *                      cannot be done.
+     * @return   Whether the action can be done.
+     */
+    private boolean prepareBatch(FarmAction action, Crop crop, BatchActionReport batchReport) {
+        if (!action.isTileAction()) {
+            throw new IllegalArgumentException("Not a tile action: " + action);
+        }
+
+        if (action == FarmAction.PLANT) {
+            if (crop == null) {
+                batchReport.setMessage(NO_CROP_SELECTED);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Does the given tile action on the given tile with the given amount of
+     * money, and writes the result to the given result.
+     * @param action        The tile action to be done.
+     * @param tile          The tile to do the action on.
+     * @param crop          The crop to be planted. Only used for planting.
+     * @param playerMoney   The money the player has to do the action with.
+     * @param result        The result to be written to.
+     * @return   Whether the action was a success or not.
+     */
+    private boolean doActionOnTile(FarmAction action, Tile tile, Crop crop, double playerMoney,
+            TileActionResult result) {
+        return switch (action) {
+            case PLOW -> tile.plow(result);
+            case PLANT -> isCropPlantableOnTile(crop, tile)
+                    ? tile.plant(crop, playerMoney, playerStats.getSeedCostReduction(), result)
+                    : result.reset(TileActionOutcome.PLANT_NOT_PLANTABLE);
+            case HARVEST -> tile.harvest(playerStats.getBonusEarnings(), random, result);
+            case WATER -> tile.water(result);
+            case FERTILIZE -> tile.fertilize(playerMoney, result);
+            case DIG -> tile.dig(playerMoney, result);
+            case MINE -> tile.mine(playerMoney, result);
+            default -> throw new IllegalArgumentException("Not a tile action: " + action);
+        };
+    }
+
+    /**
+     * Moves on to the next day and lets crops grow.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport moveOnToNextDay() {
+        state.nextDay();
+        return new ActionReport(true, "Moved on to the next day!", 0);
+    }
+
+    /**
+     * Moves on by the given number of days at once and lets crops grow. This
+     * costs the same no matter how many days are skipped.
+     * @param days   The number of days to move on by.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport advanceDays(int days) {
+        if (days <= 0) {
+            return new ActionReport(false, "The number of days has to be positive!", 0);
+        }
+
+        state.advanceDays(days);
+        return new ActionReport(true, "Moved on by " + days + " days!", 0);
+    }
+
+    /**
+     * Lets the farm move on to the next day in parallel when at least as
+     * many crops as the given threshold are due on it. Below the threshold,
+     * or if no pool is given, days are moved on sequentially.
+     * @param pool        The pool to use. Can be null.
+     * @param threshold   The number of due crops needed to go parallel.
+     */
+    public void setParallelDays(ForkJoinPool pool, int threshold) {
+        state.setParallelDays(pool, threshold);
+    }
+
+    /**
+     * Attempts to register for a new farmer rank/type.
+     * @param newStats   The new stats of the player.
+     * @return   A report containing feedback about the action.
+     */
+    public ActionReport registerForRank(Stats newStats) {
+        ActionReport report = new RankRegistrationReport(false, "No rank selected.", 0, null);
+
+        if (newStats == null) {
+            return report;
+        }
+
+        int newRankTier = newStats.getRankTier();
+        int currentRankTier = playerStats.getRankTier();
+        double newRankCost = newStats.getRankCost();
+        if (newRankTier < currentRankTier) {
+            report.setMessage("You have already registered for a higher rank!");
+        } else if (newRankTier == currentRankTier) {
+            report.setMessage("You are currently registered for this rank!");
+        } else if (playerStats.getLevel() < newStats.getRankRequiredLevel()) {
+            report.setMessage("You have not reached the required level for the rank!");
+        } else if (playerStats.getObjectCoins() < newRankCost) {
+            report.setMessage("You have insufficient money to register for this rank!");
+        } else {
+            report.setSuccess(true);
+            report.setMessage("Registration successful!");
+            report.setMoneyCost(newRankCost);
+            ((RankRegistrationReport)report).setNewRank(newStats);
+        }
+
+        return report;
+    }
+
+    /**
+     * Updates the player stats from the given report. If the player
+     * registered successfully for a new farmer type/rank, the water and
+     * fertilizer limits of every crop on the farm are increased by the new
+     * rank's bonuses instead of the old rank's.
+     * @param report   A report containing feedback from the action the player
+     *                 just did.
+     * @return   The updated stats of the player.
+     */
+    public Stats updatePlayerStatsFromReport(ActionReport report) {
+        if (report instanceof RankRegistrationReport) {
+            RankRegistrationReport tempReport = (RankRegistrationReport)report;
+            Stats newStats = tempReport.getNewRank();
+            if (newStats != null) {
+                playerStats.updateRank(newStats);
+                updateLimitBonuses();
+            }
+        }
+
+        if (report instanceof HarvestCropReport) {
+            playerStats.addMoney(((HarvestCropReport)report).getProfit());
+        }
+
+        if (report instanceof BatchActionReport) {
+            playerStats.addMoney(((BatchActionReport)report).getProfit());
+        }
+
+        if (report instanceof TileActionReport) {
+            playerStats.addExperience(((TileActionReport)report).getExpGained());
+        }
+
+        playerStats.deductMoney(report.getMoneyCost());
+        return playerStats;
+    }
+
+    /**
+     * Updates the player stats from the given result of a tile action, the
+     * same way as {@link #updatePlayerStatsFromReport(ActionReport)} does for
+     * its report.
+     * @param result   The result of the tile action the player just did.
+     * @return   The updated stats of the player.
+     */
+    public Stats updatePlayerStatsFromResult(TileActionResult result) {
+        playerStats.addMoney(result.getProfit());
+        playerStats.addExperience(result.getExpGained());
+        playerStats.deductMoney(result.getMoneyCost());
+        return playerStats;
+    }
+
+    /**
+     * Sets the farm's water and fertilizer limit bonuses to the ones of the
+     * player's farmer type/rank, which increases the limits of every crop on
+     * the farm at once.
+     * @see FarmState#setLimitBonuses(int, int)
+     */
+    private void updateLimitBonuses() {
+        state.setLimitBonuses(playerStats.getWaterLimitIncrease(), playerStats.getFertilizerLimitIncrease());
+    }
+
+    /**
+     * Checks if the given crop is plantable on the given tile considering its
+     * type and planting conditions. This does not check if the tile is
+     * occupied, however.
+     * @param crop   The crop to be planted.
+     * @param tile   The tile where the crop is to be planted.
+     * @return   Whether the crop is plantable on the tile.
+     */
+    private boolean isCropPlantableOnTile(Crop crop, Tile tile) {
+        if (!crop.getType().needsFreeAdjacentTiles()) {
+            return true;
+        }
+
+        if (isTileOnEdge(tile)) {
+            return false;
+        }
+
+        return isAllAdjacentTilesUnoccupied(tile);
+    }
+
+    /**
+     * Checks all 8 adjacent sides of the given tile to see if they are all
+     * unoccupied. This assumes that the given tile is not on the edge of
+     * the farm.
+     * @param tile   The tile which adjacent sides are to be checked.
+     * @return   Whether all the adjacent sides of the tile are unoccupied.
+     */
+    private boolean isAllAdjacentTilesUnoccupied(Tile tile) {
+        return state.areAdjacentTilesUnoccupied(tile.getIndex());
+    }
+
+    /**
+     * Checks if the given tile is on the edge of the farm.
+     * @param tile   The tile to be checked.
+     * @return   Whether the tile is on the edge or not.
+     */
+    private boolean isTileOnEdge(Tile tile) {
+        if (tile.getRow() == 0 || tile.getRow() == state.getHeight() - 1) {
+            return true;
+        }
+
+        if (tile.getColumn() == 0 || tile.getColumn() == state.getWidth() - 1) {
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Returns the tiles where a crop of the given type can be planted right
+     * now, not taking the player's money into account.
+     * @param type   The type of the crop.
+     * @return   The tiles where the crop type can be planted.
+     * @see FarmState#getPlantableTiles(CropType)
+     */
+    public TileBitSet getPlantableTiles(CropType type) {
+        return state.getPlantableTiles(type);
+    }
+
+    /**
+     * Returns the tiles whose crops are still growing.
+     * @return   The tiles with growing crops.
+     * @see FarmState#getGrowingTiles()
+     */
+    public TileBitSet getGrowingTiles() {
+        return state.getGrowingTiles();
+    }
+
+    /**
+     * Returns the tiles whose crops can be harvested right now.
+     * @return   The tiles with harvestable crops.
+     * @see FarmState#getHarvestableTiles()
+     */
+    public TileBitSet getHarvestableTiles() {
+        return state.getHarvestableTiles();
+    }
+
+    /**
+     * Returns the tiles whose crops have withered.
+     * @return   The tiles with withered crops.
+     * @see FarmState#getWitheredTiles()
+     */
+    public TileBitSet getWitheredTiles() {
+        return state.getWitheredTiles();
+    }
+
+    /**
+     * Returns the tiles that are plowed but have nothing on them.
+     * @return   The plowed empty tiles.
+     * @see FarmState#getOpenTiles()
+     */
+    public TileBitSet getPlowedEmptyTiles() {
+        return state.getOpenTiles();
+    }
+
+    /**
+     * Goes through the tiles that changed since the last time the changes
+     * were taken, such as by an action or by moving on to the next day, and
+     * forgets them.
+     * @param action   Called with the index of each changed tile, which is
+     *                 {@code row * width + column}.
+     * @see FarmState#takeChangedTiles(IntConsumer)
+     */
+    public void takeChangedTiles(IntConsumer action) {
+        state.takeChangedTiles(action);
+    }
+
+    /**
+     * Takes a snapshot of the game as it is now and publishes it, so that
+     * other threads reading {@link #getSnapshot()} see it from then on. Only
+     * the bands of tiles that changed since the last published snapshot are
+     * copied. This has to be called on the thread playing the game, and
+     * replaces the latest snapshot without waiting for anyone reading it.
+     * @return   The published snapshot.
+     * @see FarmSnapshot
+     */
+    public FarmSnapshot publishSnapshot() {
+        FarmSnapshot published = new FarmSnapshot(this, snapshot.get());
+        snapshot.set(published);
+        return published;
+    }
+
+    /**
+     * Returns the latest published snapshot of the game. This can be called
+     * from any thread, even while the game is being played.
+     * @return
+     *    The snapshot   if one has been published.
+     *    null           otherwise.
+     */
+    public FarmSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Returns the crop types that can be planted on the given tile right
+     * now, not taking the player's money into account.
+     * @param tile   The tile to be checked.
+     * @return   The crop types that can be planted on the tile. Empty if
+     *           there is no tile.
+     */
+    public Set<CropType> getPlantableCropTypes(Tile tile) {
+        Set<CropType> types = EnumSet.noneOf(CropType.class);
+        if (tile == null) {
+            return types;
+        }
+
+        for (CropType type : CropType.values()) {
+            if (state.isPlantable(type, tile.getIndex())) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Returns a view of the tile at the given position.
+     * @param row      Row position of the tile.
+     * @param column   Column position of the tile.
+     * @return
+     *    The tile   if the position is within the farm.
+     *    null       otherwise.
+     */
+    public Tile getTile(int row, int column) {
+        if (row < 0 || row >= state.getHeight() || column < 0 || column >= state.getWidth()) {
+            return null;
+        }
+        return new Tile(state, row, column);
+    }
+
+    public FarmState getState() {
+        return state;
+    }
+    public RandomGenerator getRandom() {
+        return random;
+    }
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+    public int getWidth() {
+        return state.getWidth();
+    }
+    public int getHeight() {
+        return state.getHeight();
+    }
+    public Stats getPlayerStats() {
+        return playerStats;
+    }
+    public boolean isRunning() {
+        return running;
+    }
+    public String getReasonForGameEnd() {
+        return reasonForGameEnd;
+    }
+}
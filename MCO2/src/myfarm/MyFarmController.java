@@ -1,5 +1,11 @@
+package myfarm;
+
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,7 +22,8 @@ public class MyFarmController implements ActionListener {
     private MyFarm myFarm;
     private MyFarmGUI gui;
     private Map<JButton, Tile> buttonToTile;
-    private JButton selectedTileButton;
+    private Tile[] tiles;
+    private JButton[] tileButtons;
     private Tile selectedTile;
 
     /**
@@ -30,17 +37,22 @@ public class MyFarmController implements ActionListener {
         this.gui = gui;
         
         mapButtonsToTiles();
-        gui.updateAllTiles(buttonToTile);
+        gui.updateAllTiles(tiles);
         updateInfoPanel(null);
         gui.setActionsPanelListener(this);
         gui.setTilesPanelListener(this);
+        gui.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveGame();
+            }
+        });
     }
 
     @Override
     public void actionPerformed(ActionEvent e) {
         String actionCommand = e.getActionCommand();
         if (actionCommand.equals("Tile")) {
-            selectedTileButton = (JButton)e.getSource();
             selectedTile = buttonToTile.get(e.getSource());
             updateTileInfo();
             return;
@@ -55,6 +67,8 @@ public class MyFarmController implements ActionListener {
             case "Fertilize" -> report = fertilizeButton();
             case "Dig" -> report = digButton();
             case "Mine" -> report = mineButton();
+            case "Harvest All" -> report = harvestAllButton();
+            case "Clear Withered" -> report = clearWitheredButton();
             case "Next Day" -> report = nextDayButton();
             case "Register" -> report = registerButton();
             case "Exit" -> exitButton();
@@ -64,27 +78,43 @@ public class MyFarmController implements ActionListener {
         if (!myFarm.shouldGameContinue()) {
             String reasonForGameEnd = myFarm.getReasonForGameEnd();
             JOptionPane.showMessageDialog(gui, reasonForGameEnd, "Game has ended", JOptionPane.WARNING_MESSAGE);
+            deleteSavedGame();
             gui.exitProgram();
         }
     }
 
     /**
-     * Maps the tile buttons to their corresponding tiles.
+     * Maps the tile buttons to their corresponding tiles. The tiles and
+     * buttons are also kept in arrays in the order of the tiles' indices so
+     * that the buttons of changed tiles can be found directly.
      */
     private void mapButtonsToTiles() {
         Map<JButton, Tile> map = new HashMap<JButton, Tile>();
         ArrayList<JButton> buttons = gui.getTilePanelButtons();
-        Tile[][] tiles = myFarm.getTiles();
+        if (buttons.size() != myFarm.getWidth() * myFarm.getHeight()) {
+            throw new IllegalArgumentException("Number of tile buttons does not match the farm dimensions");
+        }
+
+        tiles = new Tile[buttons.size()];
+        tileButtons = buttons.toArray(new JButton[0]);
         int k = 0;
-        for (int i = 0; i < tiles.length; i++) {
-            for (int j = 0; j < tiles[0].length; j++) {
-                map.put(buttons.get(k), tiles[i][j]);
+        for (int i = 0; i < myFarm.getHeight(); i++) {
+            for (int j = 0; j < myFarm.getWidth(); j++) {
+                tiles[k] = myFarm.getTile(i, j);
+                map.put(tileButtons[k], tiles[k]);
                 k++;
             }
         }
         buttonToTile = Collections.unmodifiableMap(map);
     }
 
+    /**
+     * Updates the buttons of the tiles that changed since the last update.
+     */
+    private void updateChangedTiles() {
+        myFarm.takeChangedTiles(index -> gui.updateTile(tiles[index], tileButtons[index]));
+    }
+
     /**
      * Invoked when the player clicks on the Plow button.
      * Attempts to plow the tile and updates it visually.
@@ -93,7 +123,7 @@ public class MyFarmController implements ActionListener {
     private ActionReport plowButton() {
         ActionReport report = myFarm.plowTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -104,10 +134,10 @@ public class MyFarmController implements ActionListener {
      * @return   A report containing feedback about the action.
      */
     private ActionReport plantButton() {
-        Crop crop = gui.openBuyCropMenu(gui);
+        Crop crop = gui.openBuyCropMenu(gui, myFarm.getPlantableCropTypes(selectedTile));
         ActionReport report = myFarm.plantCropOnTile(selectedTile, crop);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -119,7 +149,7 @@ public class MyFarmController implements ActionListener {
     private ActionReport harvestButton() {
         ActionReport report = myFarm.harvestCropFromTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -131,7 +161,7 @@ public class MyFarmController implements ActionListener {
     private ActionReport waterButton() {
         ActionReport report = myFarm.waterCropOnTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -143,7 +173,7 @@ public class MyFarmController implements ActionListener {
     private ActionReport fertilizeButton() {
         ActionReport report = myFarm.fertilizeCropOnTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -155,7 +185,7 @@ public class MyFarmController implements ActionListener {
     private ActionReport digButton() {
         ActionReport report = myFarm.digSomethingOnTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
         return report;
     }
 
@@ -167,19 +197,45 @@ public class MyFarmController implements ActionListener {
     private ActionReport mineButton() {
         ActionReport report = myFarm.mineRockFromTile(selectedTile);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateTile(selectedTile, selectedTileButton);
+        updateChangedTiles();
+        return report;
+    }
+
+    /**
+     * Invoked when the player clicks on the Harvest All button.
+     * Attempts to harvest every harvestable crop on the farm at once and
+     * updates their tiles visually.
+     * @return   A report containing feedback about the action.
+     */
+    private ActionReport harvestAllButton() {
+        ActionReport report = myFarm.harvestAll();
+        myFarm.updatePlayerStatsFromReport(report);
+        updateChangedTiles();
+        return report;
+    }
+
+    /**
+     * Invoked when the player clicks on the Clear Withered button.
+     * Attempts to dig up every withered crop on the farm at once and
+     * updates their tiles visually.
+     * @return   A report containing feedback about the action.
+     */
+    private ActionReport clearWitheredButton() {
+        ActionReport report = myFarm.clearAllWithered();
+        myFarm.updatePlayerStatsFromReport(report);
+        updateChangedTiles();
         return report;
     }
 
     /**
      * Invoked when the player clicks on the Next Day button.
-     * Lets the crops age, updates their state, and updates all the tiles
-     * visually.
+     * Lets the crops age, updates their state, and updates the tiles whose
+     * crops changed visually.
      * @return   A report containing feedback about the action.
      */
     private ActionReport nextDayButton() {
         ActionReport report = myFarm.moveOnToNextDay();
-        gui.updateAllTiles(buttonToTile);
+        updateChangedTiles();
         return report;
     }
 
@@ -187,26 +243,54 @@ public class MyFarmController implements ActionListener {
      * Invoked when the player clicks on the Register button.
      * Lets the player select a new farmer type/rank to register for.
      * Afterwards, it attempts to update the player's statistics using the
-     * selected farmer type/rank. All existing crops on the farm have their
-     * stats updated, and so all tiles are updated visually.
+     * selected farmer type/rank. Registering for a rank changes the farm's
+     * limit bonuses, and only the tiles marked as changed since the last
+     * redraw are refreshed.
      * @return   A report containing feedback about the action.
      */
     private ActionReport registerButton() {
         Stats rank = gui.openRankRegistrationMenu(gui);
         ActionReport report = myFarm.registerForRank(rank);
         myFarm.updatePlayerStatsFromReport(report);
-        gui.updateAllTiles(buttonToTile);
+        updateChangedTiles();
         return report;
     }
 
     /**
      * Invoked when the player clicks on the Exit button.
-     * Calls the GUI's exit method which terminates the program.
+     * Saves the game and calls the GUI's exit method which terminates the
+     * program.
      */
     private void exitButton() {
+        saveGame();
         gui.exitProgram();
     }
 
+    /**
+     * Saves the game to the default save file so that it can be continued
+     * the next time the game is started. Tells the player if it fails.
+     */
+    private void saveGame() {
+        try {
+            FarmSaveFile.save(myFarm, FarmSaveFile.DEFAULT_PATH);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(gui, "Could not save the game: " + e.getMessage(), "Save failed",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Deletes the default save file, since a game that has ended cannot be
+     * continued.
+     */
+    private void deleteSavedGame() {
+        try {
+            Files.deleteIfExists(FarmSaveFile.DEFAULT_PATH);
+        } catch (IOException e) {
+            // an ended game that is left behind can still be loaded, which is harmless
+        }
+    }
+
     /**
      * Updates the entire information panel at the bottom of the screen.
      * This panel includes the selected tile info box, the player stats box,
@@ -1,3 +1,5 @@
+package myfarm;
+
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -6,6 +8,7 @@ import java.awt.GridLayout;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.BorderFactory;
 import javax.swing.Icon;
@@ -14,6 +17,7 @@ import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.SwingConstants;
 
@@ -28,32 +32,9 @@ public class MyFarmGUI extends JFrame {
     public static final Icon PLOWED_TILE_EMPTY = IconUtils.resize("./assets/tiles/plowed_tile_empty.png", 75, 75);
     public static final Icon TILE_WITH_ROCK = IconUtils.resize("./assets/tiles/tile_with_rock.png", 75, 75);
 
-    public static final Icon TURNIP_YOUNG = IconUtils.resize("./assets/crops/young/turnip_young.png", 75, 75);
-    public static final Icon CARROT_YOUNG = IconUtils.resize("./assets/crops/young/carrot_young.png", 75, 75);
-    public static final Icon POTATO_YOUNG = IconUtils.resize("./assets/crops/young/potato_young.png", 75, 75);
-    public static final Icon ROSE_YOUNG = IconUtils.resize("./assets/crops/young/rose_young.png", 75, 75);
-    public static final Icon TULIPS_YOUNG = IconUtils.resize("./assets/crops/young/tulips_young.png", 75, 75);
-    public static final Icon SUNFLOWER_YOUNG = IconUtils.resize("./assets/crops/young/sunflower_young.png", 75, 75);
-    public static final Icon MANGO_YOUNG = IconUtils.resize("./assets/crops/young/mango_young.png", 75, 75);
-    public static final Icon APPLE_YOUNG = IconUtils.resize("./assets/crops/young/apple_young.png", 75, 75);
-    
-    public static final Icon TURNIP_GROWN = IconUtils.resize("./assets/crops/grown/turnip_grown.png", 75, 75);
-    public static final Icon CARROT_GROWN = IconUtils.resize("./assets/crops/grown/carrot_grown.png", 75, 75);
-    public static final Icon POTATO_GROWN = IconUtils.resize("./assets/crops/grown/potato_grown.png", 75, 75);
-    public static final Icon ROSE_GROWN = IconUtils.resize("./assets/crops/grown/rose_grown.png", 75, 75);
-    public static final Icon TULIPS_GROWN = IconUtils.resize("./assets/crops/grown/tulips_grown.png", 75, 75);
-    public static final Icon SUNFLOWER_GROWN = IconUtils.resize("./assets/crops/grown/sunflower_grown.png", 75, 75);
-    public static final Icon MANGO_GROWN = IconUtils.resize("./assets/crops/grown/mango_grown.png", 75, 75);
-    public static final Icon APPLE_GROWN = IconUtils.resize("./assets/crops/grown/apple_grown.png", 75, 75);
-
-    public static final Icon TURNIP_WITHERED = IconUtils.resize("./assets/crops/withered/turnip_withered.png", 75, 75);
-    public static final Icon CARROT_WITHERED = IconUtils.resize("./assets/crops/withered/carrot_withered.png", 75, 75);
-    public static final Icon POTATO_WITHERED = IconUtils.resize("./assets/crops/withered/potato_withered.png", 75, 75);
-    public static final Icon ROSE_WITHERED = IconUtils.resize("./assets/crops/withered/rose_withered.png", 75, 75);
-    public static final Icon TULIPS_WITHERED = IconUtils.resize("./assets/crops/withered/tulips_withered.png", 75, 75);
-    public static final Icon SUNFLOWER_WITHERED = IconUtils.resize("./assets/crops/withered/sunflower_withered.png", 75, 75);
-    public static final Icon MANGO_WITHERED = IconUtils.resize("./assets/crops/withered/mango_withered.png", 75, 75);
-    public static final Icon APPLE_WITHERED = IconUtils.resize("./assets/crops/withered/apple_withered.png", 75, 75);
+    public static final Map<CropName, Icon> YOUNG_CROPS = IconUtils.resizeCropIcons("young", 75, 75);
+    public static final Map<CropName, Icon> GROWN_CROPS = IconUtils.resizeCropIcons("grown", 75, 75);
+    public static final Map<CropName, Icon> WITHERED_CROPS = IconUtils.resizeCropIcons("withered", 75, 75);
 
     public static final Icon PLOW_ICON = IconUtils.resize("./assets/actions/plow_icon.png", 50, 50);
     public static final Icon PLANT_ICON = IconUtils.resize("./assets/actions/plant_icon.png", 50, 50);
@@ -83,20 +64,35 @@ public class MyFarmGUI extends JFrame {
     private JButton fertilizeButton;
     private JButton digButton;
     private JButton mineButton;
+    private JButton harvestAllButton;
+    private JButton clearWitheredButton;
     private JButton nextDayButton;
     private JButton registerButton;
     private JButton exitButton;
 
     private ArrayList<JButton> tilePanelButtons;
+    private int farmWidth;
+    private int farmHeight;
 
     private JTextArea playerStatsTextArea;
     private JTextArea tileInfoTextArea;
     private JTextArea actionReportTextArea;
 
     /**
-     * Creates and instantiates the view.
+     * Creates and instantiates the view with the default farm dimensions.
      */
     public MyFarmGUI() {
+        this(MyFarm.DEFAULT_WIDTH, MyFarm.DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Creates and instantiates the view for a farm with the given dimensions.
+     * @param width    The number of columns in the farm.
+     * @param height   The number of rows in the farm.
+     */
+    public MyFarmGUI(int width, int height) {
+        this.farmWidth = width;
+        this.farmHeight = height;
         this.setTitle("My Farm");
         this.setIconImage(new ImageIcon(MAIN_WINDOW_ICON_PATH).getImage());
         this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -116,7 +112,7 @@ public class MyFarmGUI extends JFrame {
         // Main panel which contains the farm lot and information panel
         mainPanel = new JPanel(new BorderLayout());
 
-        actionsPanel = new JPanel(new GridLayout(10, 1, 0, 5));
+        actionsPanel = new JPanel(new GridLayout(12, 1, 0, 5));
         actionsPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
         // Buttons for actions panel
@@ -127,6 +123,8 @@ public class MyFarmGUI extends JFrame {
         fertilizeButton = new JButton("Fertilize", FERTILIZE_ICON);
         digButton = new JButton("Dig", DIG_ICON);
         mineButton = new JButton("Mine", MINE_ICON);
+        harvestAllButton = new JButton("Harvest All", HARVEST_ICON);
+        clearWitheredButton = new JButton("Clear Withered", DIG_ICON);
         nextDayButton = new JButton("Next Day", NEXT_DAY_ICON);
         registerButton = new JButton("Register", REGISTER_ICON);
         exitButton = new JButton("Exit", EXIT_ICON);
@@ -138,6 +136,8 @@ public class MyFarmGUI extends JFrame {
         fertilizeButton.setActionCommand("Fertilize");
         digButton.setActionCommand("Dig");
         mineButton.setActionCommand("Mine");
+        harvestAllButton.setActionCommand("Harvest All");
+        clearWitheredButton.setActionCommand("Clear Withered");
         nextDayButton.setActionCommand("Next Day");
         registerButton.setActionCommand("Register");
         exitButton.setActionCommand("Exit");
@@ -149,6 +149,9 @@ public class MyFarmGUI extends JFrame {
         fertilizeButton.setToolTipText("Gives fertilizer to a crop for " + Tile.FERTILIZE_COST + " Objectcoins.");
         digButton.setToolTipText("Removes a withered crop from a tile for " + Tile.DIG_COST + " Objectcoins.");
         mineButton.setToolTipText("Removes a rock from a tile for " + Tile.MINE_COST + " Objectcoins.");
+        harvestAllButton.setToolTipText("Harvests every harvestable crop for " + Tile.HARVEST_COST
+                + " Objectcoins each and sells them.");
+        clearWitheredButton.setToolTipText("Removes every withered crop for " + Tile.DIG_COST + " Objectcoins each.");
         nextDayButton.setToolTipText("Let crops grow and move on to the next day.");
         registerButton.setToolTipText("Register for a rank for additional perks and benefits.");
         exitButton.setToolTipText("Quits the game.");
@@ -160,6 +163,8 @@ public class MyFarmGUI extends JFrame {
         actionsPanel.add(fertilizeButton);
         actionsPanel.add(digButton);
         actionsPanel.add(mineButton);
+        actionsPanel.add(harvestAllButton);
+        actionsPanel.add(clearWitheredButton);
         actionsPanel.add(nextDayButton);
         actionsPanel.add(registerButton);
         actionsPanel.add(exitButton);
@@ -167,11 +172,11 @@ public class MyFarmGUI extends JFrame {
         this.add(actionsPanel, BorderLayout.EAST);
 
         // Tiles panel
-        tilesPanel = new JPanel(new GridLayout(5, 10, 40, 8));
+        tilesPanel = new JPanel(new GridLayout(farmHeight, farmWidth, 40, 8));
         tilesPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         tilesPanel.setBackground(Color.decode("#593D28"));
 
-        for (int i = 0; i < 50; i++) {
+        for (int i = 0; i < farmWidth * farmHeight; i++) {
             JButton tileButton = new JButton();
             tileButton.setActionCommand("Tile");
             tilesPanel.add(tileButton);
@@ -213,7 +218,14 @@ public class MyFarmGUI extends JFrame {
         infoPanel.add(actionReportPanel);
 
         mainPanel.add(infoPanel, BorderLayout.SOUTH);
-        mainPanel.add(tilesPanel, BorderLayout.CENTER);
+        if (farmWidth > MyFarm.DEFAULT_WIDTH || farmHeight > MyFarm.DEFAULT_HEIGHT) {
+            // farms larger than the default do not fit in the window
+            JScrollPane tilesScrollPane = new JScrollPane(tilesPanel);
+            tilesScrollPane.setBorder(BorderFactory.createEmptyBorder());
+            mainPanel.add(tilesScrollPane, BorderLayout.CENTER);
+        } else {
+            mainPanel.add(tilesPanel, BorderLayout.CENTER);
+        }
         this.add(mainPanel);
 
         compileTilePanelButtons();
@@ -221,12 +233,16 @@ public class MyFarmGUI extends JFrame {
 
     /**
      * Opens the Buy Crop menu. It allows the player to select the crop they
-     * wish to plant.
-     * @param frame   The parent frame the Buy Crop menu will be modal to.
+     * wish to plant. Crops whose type cannot be planted on the selected tile
+     * are disabled.
+     * @param frame            The parent frame the Buy Crop menu will be
+     *                         modal to.
+     * @param plantableTypes   The crop types that can be planted on the
+     *                         selected tile.
      * @return   The crop the player wants to plant. Can be null.
      */
-    public Crop openBuyCropMenu(JFrame frame) {
-        return new BuyCropMenu(frame).openMenu();
+    public Crop openBuyCropMenu(JFrame frame, Set<CropType> plantableTypes) {
+        return new BuyCropMenu(frame, plantableTypes).openMenu();
     }
 
     /**
@@ -242,7 +258,8 @@ public class MyFarmGUI extends JFrame {
     }
 
     /**
-     * Updates a tile button given a tile.
+     * Updates a tile button given a tile. The button is left as is if it
+     * already shows the right image.
      * @param tile     The tile which state is going to be used.
      * @param button   The button to be updated.
      */
@@ -252,26 +269,26 @@ public class MyFarmGUI extends JFrame {
         }
 
         if (tile.hasRock()) {
-            button.setIcon(TILE_WITH_ROCK);
+            setTileIcon(button, TILE_WITH_ROCK);
             return;
         }
 
         if (!tile.isPlowed()) {
-            button.setIcon(UNPLOWED_TILE);
+            setTileIcon(button, UNPLOWED_TILE);
             return;
         }
 
         if (!tile.hasCrop()) {
-            button.setIcon(PLOWED_TILE_EMPTY);
+            setTileIcon(button, PLOWED_TILE_EMPTY);
             return;
         }
 
-        if (tile.getPlantedCrop().isWithered()) {
+        if (tile.isCropWithered()) {
             updateTileWithWitheredCrop(tile, button);
             return;
         }
 
-        if (tile.getPlantedCrop().isHarvestable()) {
+        if (tile.isCropHarvestable()) {
             updateTileWithGrownCrop(tile, button);
             return;
         }
@@ -286,16 +303,7 @@ public class MyFarmGUI extends JFrame {
      * @param button   The button to be updated.
      */
     private void updateTileWithWitheredCrop(Tile tile, JButton button) {
-        switch (tile.getPlantedCrop().getName()) {
-            case "Turnip" -> button.setIcon(TURNIP_WITHERED);
-            case "Carrot" -> button.setIcon(CARROT_WITHERED);
-            case "Potato" -> button.setIcon(POTATO_WITHERED);
-            case "Rose" -> button.setIcon(ROSE_WITHERED);
-            case "Tulips" -> button.setIcon(TULIPS_WITHERED);
-            case "Sunflower" -> button.setIcon(SUNFLOWER_WITHERED);
-            case "Mango" -> button.setIcon(MANGO_WITHERED);
-            case "Apple" -> button.setIcon(APPLE_WITHERED);
-        }
+        setTileIcon(button, WITHERED_CROPS.get(tile.getCropKind().getName()));
     }
 
     /**
@@ -305,16 +313,7 @@ public class MyFarmGUI extends JFrame {
      * @param button   The button to be updated.
      */
     private void updateTileWithYoungCrop(Tile tile, JButton button) {
-        switch (tile.getPlantedCrop().getName()) {
-            case "Turnip" -> button.setIcon(TURNIP_YOUNG);
-            case "Carrot" -> button.setIcon(CARROT_YOUNG);
-            case "Potato" -> button.setIcon(POTATO_YOUNG);
-            case "Rose" -> button.setIcon(ROSE_YOUNG);
-            case "Tulips" -> button.setIcon(TULIPS_YOUNG);
-            case "Sunflower" -> button.setIcon(SUNFLOWER_YOUNG);
-            case "Mango" -> button.setIcon(MANGO_YOUNG);
-            case "Apple" -> button.setIcon(APPLE_YOUNG);
-        }
+        setTileIcon(button, YOUNG_CROPS.get(tile.getCropKind().getName()));
     }
 
     /**
@@ -324,26 +323,28 @@ public class MyFarmGUI extends JFrame {
      * @param button   The button to be updated.
      */
     private void updateTileWithGrownCrop(Tile tile, JButton button) {
-        switch (tile.getPlantedCrop().getName()) {
-            case "Turnip" -> button.setIcon(TURNIP_GROWN);
-            case "Carrot" -> button.setIcon(CARROT_GROWN);
-            case "Potato" -> button.setIcon(POTATO_GROWN);
-            case "Rose" -> button.setIcon(ROSE_GROWN);
-            case "Tulips" -> button.setIcon(TULIPS_GROWN);
-            case "Sunflower" -> button.setIcon(SUNFLOWER_GROWN);
-            case "Mango" -> button.setIcon(MANGO_GROWN);
-            case "Apple" -> button.setIcon(APPLE_GROWN);
+        setTileIcon(button, GROWN_CROPS.get(tile.getCropKind().getName()));
+    }
+
+    /**
+     * Sets the image of the given tile button unless it already has it.
+     * @param button   The button to be updated.
+     * @param icon     The image to be shown.
+     */
+    private void setTileIcon(JButton button, Icon icon) {
+        if (button.getIcon() != icon) {
+            button.setIcon(icon);
         }
     }
 
     /**
      * Updates all the button tiles with the proper images given the
      * corresponding tile.
-     * @param buttonToTile   A map that maps each tile button to each tile.
+     * @param tiles   The tiles in the same order as the tile buttons.
      */
-    public void updateAllTiles(Map<JButton, Tile> buttonToTile) {
-        for (JButton tileButton : tilePanelButtons) {
-            updateTile(buttonToTile.get(tileButton), tileButton);
+    public void updateAllTiles(Tile[] tiles) {
+        for (int i = 0; i < tiles.length; i++) {
+            updateTile(tiles[i], tilePanelButtons.get(i));
         }
     }
 
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the potato crop.
  */
@@ -7,6 +9,6 @@ public class Potato extends Crop {
      * Creates a potato crop.
      */
     public Potato() {
-        super("Potato", "Root Crop", 20, 3, 12.5, 5, 1, 10, 3, 4, 1, 2, 1);
+        super(CropDefinition.POTATO);
     }
 }
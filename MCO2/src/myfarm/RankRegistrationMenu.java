@@ -1,3 +1,5 @@
+package myfarm;
+
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
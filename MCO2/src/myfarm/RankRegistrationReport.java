@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Contains feedback for farmer type/rank registration.
  */
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the rose crop.
  */
@@ -7,6 +9,6 @@ public class Rose extends Crop {
      * Creates a rose crop.
      */
     public Rose() {
-        super("Rose", "Flower", 5, 5, 2.5, 1, 1, 1, 1, 2, 0, 1, 1.1);
+        super(CropDefinition.ROSE);
     }
 }
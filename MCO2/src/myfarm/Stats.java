@@ -1,3 +1,8 @@
+package myfarm;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Records statistics about the player.
  */
@@ -62,6 +67,16 @@ public class Stats {
         this.rankRequiredLevel = rankRequiredLevel;
     }
 
+    /**
+     * Creates a copy of the given group of statistics.
+     * @param other   The group of statistics to be copied.
+     */
+    public Stats(Stats other) {
+        this(other.rank, other.objectCoins, other.level, other.experience, other.bonusEarnings,
+                other.seedCostReduction, other.waterLimitIncrease, other.fertilizerLimitIncrease, other.rankTier,
+                other.rankCost, other.rankRequiredLevel);
+    }
+
     /**
      * Creates a new group of statistics meant for a new farmer type/rank.
      * @param rank                      Rank of the player.
@@ -266,7 +281,67 @@ public class Stats {
 
         return s;
     }
-    
+
+    /**
+     * Returns the number of bytes written by {@link #writeTo(ByteBuffer)}.
+     * @return   The number of bytes the saved stats take up.
+     */
+    public int getSaveSize() {
+        return Integer.BYTES + rank.getBytes(StandardCharsets.UTF_8).length + 5 * Double.BYTES + 5 * Integer.BYTES;
+    }
+
+    /**
+     * Writes the stats to the given buffer. The length of the rank name in
+     * UTF-8 comes first, followed by the name itself and then every other
+     * stat.
+     * @param buffer   The buffer to be written to.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        byte[] rankName = rank.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(rankName.length);
+        buffer.put(rankName);
+        buffer.putDouble(objectCoins);
+        buffer.putInt(level);
+        buffer.putDouble(experience);
+        buffer.putDouble(bonusEarnings);
+        buffer.putDouble(seedCostReduction);
+        buffer.putInt(waterLimitIncrease);
+        buffer.putInt(fertilizerLimitIncrease);
+        buffer.putInt(rankTier);
+        buffer.putDouble(rankCost);
+        buffer.putInt(rankRequiredLevel);
+    }
+
+    /**
+     * Creates a group of statistics from a buffer written by
+     * {@link #writeTo(ByteBuffer)}.
+     * @param buffer   The buffer to be read from.
+     * @return   The stats read from the buffer.
+     * @throws IllegalArgumentException When the length of the rank name is
+     *                                  longer than the rest of the buffer.
+     */
+    public static Stats readFrom(ByteBuffer buffer) {
+        int rankLength = buffer.getInt();
+        if (rankLength < 0 || rankLength > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid rank name length " + rankLength);
+        }
+        byte[] rankName = new byte[rankLength];
+        buffer.get(rankName);
+        Stats stats = new Stats();
+        stats.rank = new String(rankName, StandardCharsets.UTF_8);
+        stats.objectCoins = buffer.getDouble();
+        stats.level = buffer.getInt();
+        stats.experience = buffer.getDouble();
+        stats.bonusEarnings = buffer.getDouble();
+        stats.seedCostReduction = buffer.getDouble();
+        stats.waterLimitIncrease = buffer.getInt();
+        stats.fertilizerLimitIncrease = buffer.getInt();
+        stats.rankTier = buffer.getInt();
+        stats.rankCost = buffer.getDouble();
+        stats.rankRequiredLevel = buffer.getInt();
+        return stats;
+    }
+
     public String getRank() {
         return rank;
     }
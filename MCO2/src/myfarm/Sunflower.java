@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the sunflower crop.
  */
@@ -7,6 +9,6 @@ public class Sunflower extends Crop {
      * Creates a sunflower crop.
      */
     public Sunflower() {
-        super("Sunflower", "Flower", 20, 19, 7.5, 3, 1, 1, 2, 3, 1, 2, 1.1);
+        super(CropDefinition.SUNFLOWER);
     }
 }
@@ -0,0 +1,27 @@
+package myfarm;
+
+/**
+ * Represents how often a journal forces its log to the storage device. Every
+ * recorded command is written to the operating system right away, so it
+ * survives the game crashing no matter the policy. Forcing the log is what
+ * makes it also survive the operating system crashing or the machine losing
+ * power, at the cost of waiting for the device.
+ * @see FarmJournal
+ */
+public enum SyncPolicy {
+    /**
+     * Never forces the log and leaves it to the operating system.
+     */
+    NEVER,
+
+    /**
+     * Forces the log when its segment ends at a checkpoint and when the
+     * journal is closed.
+     */
+    SEGMENT,
+
+    /**
+     * Forces the log after every recorded command.
+     */
+    EVERY_COMMAND
+}
@@ -0,0 +1,413 @@
+package myfarm;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents each tile in the farmer's farm that can hold and grow a crop.
+ */
+public class Tile {
+    public static final double PLOW_COST = 0;
+    public static final double PLOW_EXP = 0.5;
+
+    public static final double PLANT_EXP = 0; // no exp for just planting
+
+    public static final double HARVEST_COST = 0;
+
+    public static final double WATER_COST = 0;
+    public static final double WATER_EXP = 0.5;
+
+    public static final double FERTILIZE_COST = 10;
+    public static final double FERTILIZE_EXP = 4;
+
+    public static final double MINE_COST = 50;
+    public static final double MINE_EXP = 15;
+
+    public static final double DIG_COST = 7;
+    public static final double DIG_EXP = 2;
+
+    private FarmState state;
+    private int row;
+    private int column;
+    private int index;
+
+    /**
+     * Creates a view of the tile at the given position in the given farm
+     * state. The tile does not hold any state of its own.
+     * @param state    The state of the farm the tile is in.
+     * @param row      Its row position.
+     * @param column   Its column position.
+     */
+    public Tile(FarmState state, int row, int column) {
+        this.state = state;
+        this.row = row;
+        this.column = column;
+        this.index = state.indexOf(row, column);
+    }
+
+    /**
+     * Plows the tile and returns a report detailing if it was successful and
+     * feedback about the action. Plowing fails if one of the following
+     * conditions is met:
+     *    (1) The tile is already plowed.
+     *    (2) The tile already has a crop.
+     *    (3) The tile has a rock.
+     * @return   Report about the action.
+     */
+    public TileActionReport plow() {
+        TileActionResult result = new TileActionResult();
+        plow(result);
+        return result.toReport();
+    }
+
+    /**
+     * Plows the tile and writes the result to the given result instead of
+     * creating a report.
+     * @param result   The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #plow()
+     */
+    public boolean plow(TileActionResult result) {
+        if (this.isPlowed()) {
+            return result.reset(TileActionOutcome.PLOW_IS_PLOWED);
+        } else if (this.hasCrop()) {
+            return result.reset(TileActionOutcome.PLOW_HAS_CROP);
+        } else if (this.hasRock()) {
+            return result.reset(TileActionOutcome.PLOW_HAS_ROCK);
+        }
+
+        state.setPlowed(index, true);
+        return result.set(TileActionOutcome.PLOW_SUCCESS, PLOW_COST, PLOW_EXP);
+    }
+    
+    /**
+     * Plants the given crop and returns a report detailing if it was
+     * successful and feedback about the action. Planting fails if one of the
+     * following conditions is met:
+     *    (1) The tile has a rock.
+     *    (2) The tile already has a crop.
+     *    (3) The tile is not plowed.
+     *    (4) The player has insufficient money.
+     * @param crop                The crop to be planted.
+     * @param playerMoney         Player's current amount of money.
+     * @param seedCostReduction   Discount for the purchase.
+     * @return   Report about the action.
+     */
+    public TileActionReport plant(Crop crop, double playerMoney, double seedCostReduction) {
+        TileActionResult result = new TileActionResult();
+        plant(crop, playerMoney, seedCostReduction, result);
+        return result.toReport();
+    }
+
+    /**
+     * Plants the given crop and writes the result to the given result
+     * instead of creating a report.
+     * @param crop                The crop to be planted.
+     * @param playerMoney         Player's current amount of money.
+     * @param seedCostReduction   Discount for the purchase.
+     * @param result              The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #plant(Crop, double, double)
+     */
+    public boolean plant(Crop crop, double playerMoney, double seedCostReduction, TileActionResult result) {
+        double discountedCost = crop.getBaseSeedCost() - seedCostReduction;
+
+        if (this.hasRock()) {
+            return result.reset(TileActionOutcome.PLANT_HAS_ROCK);
+        } else if (this.hasCrop()) {
+            return result.reset(TileActionOutcome.PLANT_HAS_CROP);
+        } else if (!this.isPlowed()) {
+            return result.reset(TileActionOutcome.PLANT_NOT_PLOWED);
+        } else if (playerMoney < discountedCost) {
+            return result.reset(TileActionOutcome.PLANT_NO_MONEY);
+        }
+
+        state.plantCrop(index, crop);
+        return result.set(TileActionOutcome.PLANT_SUCCESS, discountedCost, PLANT_EXP);
+    }
+
+    /**
+     * Harvests the crop, removes it from the tile, and returns a report
+     * detailing if it was successful and feedback about the action.
+     * Harvesting fails if one of the following conditions is met:
+     *    (1) The tile has no crop.
+     *    (2) The planted crop is not harvestable.
+     * @param bonusEarnings   Added money per product sold.
+     * @param random          The random number generator for the yield.
+     * @return   Report about the action.
+     */
+    public HarvestCropReport harvest(double bonusEarnings, RandomGenerator random) {
+        TileActionResult result = new TileActionResult();
+        harvest(bonusEarnings, random, result);
+        return result.toHarvestReport();
+    }
+
+    /**
+     * Harvests the crop, removes it from the tile, and writes the result to
+     * the given result instead of creating a report.
+     * @param bonusEarnings   Added money per product sold.
+     * @param random          The random number generator for the yield.
+     * @param result          The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #harvest(double, RandomGenerator)
+     */
+    public boolean harvest(double bonusEarnings, RandomGenerator random, TileActionResult result) {
+        if (!this.hasCrop()) {
+            // no need to check if there's a rock because there's no crop anyway
+            return result.reset(TileActionOutcome.HARVEST_NO_CROP);
+        } else if (!state.isHarvestable(index)) {
+            return result.reset(TileActionOutcome.HARVEST_NOT_HARVESTABLE);
+        }
+
+        CropDefinition crop = state.getCropKind(index);
+        int productsProduced = crop.getRandomYield(random);
+        double sellPrice = crop.calculateSellPrice(productsProduced, bonusEarnings, state.getWater(index),
+                state.getFertilizer(index));
+        result.set(TileActionOutcome.HARVEST_SUCCESS, HARVEST_COST, crop.getExpYield() * productsProduced);
+        result.setProductsProduced(productsProduced);
+        result.setProfit(sellPrice);
+        state.removeCrop(index);
+        state.setPlowed(index, false);
+        return true;
+    }
+
+    /**
+     * Waters the crop and returns a report detailing if it was successful and
+     * feedback about the action. Watering fails if one of the following
+     * conditions is met:
+     *    (1) The tile has no crop.
+     *    (2) The planted crop has withered.
+     * @return   Report about the action.
+     */
+    public TileActionReport water() {
+        TileActionResult result = new TileActionResult();
+        water(result);
+        return result.toReport();
+    }
+
+    /**
+     * Waters the crop and writes the result to the given result instead of
+     * creating a report.
+     * @param result   The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #water()
+     */
+    public boolean water(TileActionResult result) {
+        if (!this.hasCrop()) {
+            // no need to check if there's a rock because there's no crop anyway
+            return result.reset(TileActionOutcome.WATER_NO_CROP);
+        } else if (state.isWithered(index)) {
+            return result.reset(TileActionOutcome.WATER_IS_WITHERED);
+        }
+
+        state.addWater(index, 1);
+        return result.set(TileActionOutcome.WATER_SUCCESS, WATER_COST, WATER_EXP);
+    }
+    
+    /**
+     * Fertilizes the crop and returns a report detailing if it was successful
+     * and feedback about the action. Fertilization fails if one of the
+     * following conditions is met:
+     *    (1) The tile has no crop.
+     *    (2) The crop has withered.
+     *    (3) The player has insufficient money.
+     * @param playerMoney   Player's current amount of money.
+     * @return   Report about the action.
+     */
+    public TileActionReport fertilize(double playerMoney) {
+        TileActionResult result = new TileActionResult();
+        fertilize(playerMoney, result);
+        return result.toReport();
+    }
+
+    /**
+     * Fertilizes the crop and writes the result to the given result instead
+     * of creating a report.
+     * @param playerMoney   Player's current amount of money.
+     * @param result        The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #fertilize(double)
+     */
+    public boolean fertilize(double playerMoney, TileActionResult result) {
+        if (!this.hasCrop()) {
+            // no need to check if there's a rock because there's no crop anyway
+            return result.reset(TileActionOutcome.FERTILIZE_NO_CROP);
+        } else if (state.isWithered(index)) {
+            return result.reset(TileActionOutcome.FERTILIZE_IS_WITHERED);
+        } else if (playerMoney < FERTILIZE_COST) {
+            return result.reset(TileActionOutcome.FERTILIZE_NO_MONEY);
+        }
+
+        state.addFertilizer(index, 1);
+        return result.set(TileActionOutcome.FERTILIZE_SUCCESS, FERTILIZE_COST, FERTILIZE_EXP);
+    }
+
+    /**
+     * Uses the shovel on the tile, which can have varying effects:
+     *    (1) It removes a crop if the tile has one.
+     *    (2) It unplows the tile if it is plowed and has no crop.
+     *    (3) It does nothing to an unplowed tile or a tile with a rock.
+     * The player is still charged money for failing to use the shovel
+     * properly. The only time the player does not get charged is when they
+     * have insufficient money. Returns a report detailing if it was
+     * successful and feedback about the action.
+     * @param playerMoney   Player's current amount of money.
+     * @return   Report about the action.
+     */
+    public TileActionReport dig(double playerMoney) {
+        TileActionResult result = new TileActionResult();
+        dig(playerMoney, result);
+        return result.toReport();
+    }
+
+    /**
+     * Uses the shovel on the tile and writes the result to the given result
+     * instead of creating a report.
+     * @param playerMoney   Player's current amount of money.
+     * @param result        The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #dig(double)
+     */
+    public boolean dig(double playerMoney, TileActionResult result) {
+        if (playerMoney < DIG_COST) {
+            return result.reset(TileActionOutcome.DIG_NO_MONEY);
+        } else if (this.hasRock()) {
+            return result.set(TileActionOutcome.DIG_HAS_ROCK, DIG_COST, 0);
+        } else if (!this.isPlowed()) {
+            return result.set(TileActionOutcome.DIG_TILE_NOTHING, DIG_COST, DIG_EXP);
+        } else if (this.hasCrop()) {
+            state.setPlowed(index, false);
+            state.removeCrop(index);
+            return result.set(TileActionOutcome.DIG_CROP_REMOVED, DIG_COST, DIG_EXP);
+        }
+
+        // the tile is plowed and has no crop
+        state.setPlowed(index, false);
+        return result.set(TileActionOutcome.DIG_TILE_UNPLOWED, DIG_COST, DIG_EXP);
+    }
+
+    /**
+     * Mines the rock from the tile and returns a report detailing if it was
+     * successful and feedback about the action. Mining fails if one of the
+     * following conditions is met:
+     *    (1) The tile has no rock.
+     *    (2) The player has insufficient money.
+     * @param playerMoney   Player's current amount of money.
+     * @return   Report about the action.
+     */
+    public TileActionReport mine(double playerMoney) {
+        TileActionResult result = new TileActionResult();
+        mine(playerMoney, result);
+        return result.toReport();
+    }
+
+    /**
+     * Mines the rock from the tile and writes the result to the given result
+     * instead of creating a report.
+     * @param playerMoney   Player's current amount of money.
+     * @param result        The result to be written to.
+     * @return   Whether the action was a success or not.
+     * @see #mine(double)
+     */
+    public boolean mine(double playerMoney, TileActionResult result) {
+        if (!this.hasRock()) {
+            return result.reset(TileActionOutcome.MINE_NO_ROCK);
+        } else if (playerMoney < MINE_COST) {
+            return result.reset(TileActionOutcome.MINE_NO_MONEY);
+        }
+
+        state.setRock(index, false);
+        return result.set(TileActionOutcome.MINE_SUCCESS, MINE_COST, MINE_EXP);
+    }
+
+    /**
+     * Returns a multiline string of the state of the tile, such as whether it
+     * has a rock, is plowed, and has a crop. If it has a crop, the crop's
+     * state is appended to the string.
+     */
+    public String getDetails() {
+        var s = "Has rock: " + hasRock() + "\n"
+              + "Is plowed: " + isPlowed() + "\n"
+              + "Has crop: " + hasCrop() + "\n";
+
+        if (this.hasCrop()) {
+            CropDefinition crop = getCropKind();
+            s += "\n"
+               + "Crop Name: " + crop.getName() + "\n"
+               + "Crop Type: " + crop.getType() + "\n"
+               + "Age: " + state.getAge(index) + " / " + crop.getHarvestAge() + "\n"
+               + "Water: " + state.getWater(index) + " / " + crop.getWaterNeeded()
+               + "(" + state.getWaterLimit(index) + ")" + "\n"
+               + "Fertilizer: " + state.getFertilizer(index) + " / " + crop.getFertilizerNeeded()
+               + "(" + state.getFertilizerLimit(index) + ")" + "\n"
+               + "Is harvestable: " + isCropHarvestable() + "\n"
+               + "Is withered: " + isCropWithered() + "\n"
+               + "Is overripe: " + ((state.getCropFlags(index) & FarmState.OVERRIPE) != 0) + "\n"
+               + "Lacks water: " + ((state.getCropFlags(index) & FarmState.LACKS_WATER) != 0) + "\n"
+               + "Lacks fertilizer: " + ((state.getCropFlags(index) & FarmState.LACKS_FERTILIZER) != 0) + "\n";
+        }
+
+        return s;
+    }
+
+    /**
+     * Returns true if the rock has a crop. Otherwise, false.
+     * @return   True if the tile has a crop. Otherwise, false.
+     */
+    public boolean hasCrop() {
+        return state.hasCrop(index);
+    }
+
+    /**
+     * Returns true if the rock is occupied by a crop or rock.
+     * Otherwise, false.
+     * @return   True if the tile has a crop or rock. Otherwise, false.
+     */
+    public boolean isOccupied() {
+        return state.isOccupied(index);
+    }
+
+    /**
+     * Returns true if the tile has a harvestable crop. Otherwise, false.
+     * @return   True if the tile has a harvestable crop. Otherwise, false.
+     */
+    public boolean isCropHarvestable() {
+        return state.isHarvestable(index);
+    }
+
+    /**
+     * Returns true if the tile has a withered crop. Otherwise, false.
+     * @return   True if the tile has a withered crop. Otherwise, false.
+     */
+    public boolean isCropWithered() {
+        return state.isWithered(index);
+    }
+
+    /**
+     * Returns the definition of the crop planted on the tile, which holds
+     * its name and base stats. The state of the planted crop is kept in the
+     * farm state instead.
+     * @return   The definition of the crop planted on the tile. Can be null.
+     */
+    public CropDefinition getCropKind() {
+        return state.getCropKind(index);
+    }
+
+    public boolean isPlowed() {
+        return state.isPlowed(index);
+    }
+    public boolean hasRock() {
+        return state.hasRock(index);
+    }
+    public void setRock(boolean rock) {
+        state.setRock(index, rock);
+    }
+    public int getRow() {
+        return row;
+    }
+    public int getColumn() {
+        return column;
+    }
+    public int getIndex() {
+        return index;
+    }
+}
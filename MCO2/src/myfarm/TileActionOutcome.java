@@ -0,0 +1,185 @@
+package myfarm;
+
+/**
+ * Holds the possible outcomes of a tile action, along with whether each one
+ * counts as a success and the feedback message shown for it.
+ */
+public enum TileActionOutcome {
+    /**
+     * Nothing was done because the game has ended.
+     */
+    GAME_HAS_ENDED(false, FarmEngine.GAME_HAS_ENDED),
+
+    /**
+     * No tile was selected.
+     */
+    NO_TILE_SELECTED(false, MyFarm.NO_TILE_SELECTED),
+
+    /**
+     * The tile was plowed.
+     */
+    PLOW_SUCCESS(true, TileActionReport.PLOW_SUCCESS),
+
+    /**
+     * The tile could not be plowed because it is already plowed.
+     */
+    PLOW_IS_PLOWED(false, TileActionReport.PLOW_IS_PLOWED),
+
+    /**
+     * The tile could not be plowed because it has a crop.
+     */
+    PLOW_HAS_CROP(false, TileActionReport.PLOW_HAS_CROP),
+
+    /**
+     * The tile could not be plowed because it has a rock.
+     */
+    PLOW_HAS_ROCK(false, TileActionReport.PLOW_HAS_ROCK),
+
+    /**
+     * The crop was planted on the tile.
+     */
+    PLANT_SUCCESS(true, TileActionReport.PLANT_SUCCESS),
+
+    /**
+     * The crop could not be planted because there is no crop to plant.
+     */
+    PLANT_NO_CROP(false, MyFarm.NO_CROP_SELECTED),
+
+    /**
+     * The crop could not be planted because of its type and planting
+     * conditions, such as a fruit tree next to an occupied tile.
+     */
+    PLANT_NOT_PLANTABLE(false, MyFarm.CROP_NOT_PLANTABLE),
+
+    /**
+     * The crop could not be planted because the tile is not plowed.
+     */
+    PLANT_NOT_PLOWED(false, TileActionReport.PLANT_NOT_PLOWED),
+
+    /**
+     * The crop could not be planted because the player has insufficient
+     * money.
+     */
+    PLANT_NO_MONEY(false, TileActionReport.PLANT_NO_MONEY),
+
+    /**
+     * The crop could not be planted because the tile has a crop.
+     */
+    PLANT_HAS_CROP(false, TileActionReport.PLANT_HAS_CROP),
+
+    /**
+     * The crop could not be planted because the tile has a rock.
+     */
+    PLANT_HAS_ROCK(false, TileActionReport.PLANT_HAS_ROCK),
+
+    /**
+     * The crop was harvested.
+     */
+    HARVEST_SUCCESS(true, HarvestCropReport.HARVEST_SUCCESS),
+
+    /**
+     * Nothing was harvested because the tile has no crop.
+     */
+    HARVEST_NO_CROP(false, HarvestCropReport.HARVEST_NO_CROP),
+
+    /**
+     * Nothing was harvested because the crop is not harvestable.
+     */
+    HARVEST_NOT_HARVESTABLE(false, HarvestCropReport.HARVEST_NOT_HARVESTABLE),
+
+    /**
+     * The crop was watered.
+     */
+    WATER_SUCCESS(true, TileActionReport.WATER_SUCCESS),
+
+    /**
+     * The crop could not be watered because it has withered.
+     */
+    WATER_IS_WITHERED(false, TileActionReport.WATER_IS_WITHERED),
+
+    /**
+     * Nothing was watered because the tile has no crop.
+     */
+    WATER_NO_CROP(false, TileActionReport.WATER_NO_CROP),
+
+    /**
+     * The crop was fertilized.
+     */
+    FERTILIZE_SUCCESS(true, TileActionReport.FERTILIZE_SUCCESS),
+
+    /**
+     * Nothing was fertilized because the tile has no crop.
+     */
+    FERTILIZE_NO_CROP(false, TileActionReport.FERTILIZE_NO_CROP),
+
+    /**
+     * The crop could not be fertilized because it has withered.
+     */
+    FERTILIZE_IS_WITHERED(false, TileActionReport.FERTILIZE_IS_WITHERED),
+
+    /**
+     * The crop could not be fertilized because the player has insufficient
+     * money.
+     */
+    FERTILIZE_NO_MONEY(false, TileActionReport.FERTILIZE_NO_MONEY),
+
+    /**
+     * The rock was mined.
+     */
+    MINE_SUCCESS(true, TileActionReport.MINE_SUCCESS),
+
+    /**
+     * Nothing was mined because the tile has no rock.
+     */
+    MINE_NO_ROCK(false, TileActionReport.MINE_NO_ROCK),
+
+    /**
+     * The rock could not be mined because the player has insufficient money.
+     */
+    MINE_NO_MONEY(false, TileActionReport.MINE_NO_MONEY),
+
+    /**
+     * The shovel could not be used because the player has insufficient money.
+     */
+    DIG_NO_MONEY(false, TileActionReport.DIG_NO_MONEY),
+
+    /**
+     * The shovel unplowed the tile.
+     */
+    DIG_TILE_UNPLOWED(false, TileActionReport.DIG_TILE_UNPLOWED),
+
+    /**
+     * The shovel did nothing because the tile is not plowed.
+     */
+    DIG_TILE_NOTHING(false, TileActionReport.DIG_TILE_NOTHING),
+
+    /**
+     * The shovel removed the crop from the tile.
+     */
+    DIG_CROP_REMOVED(true, TileActionReport.DIG_CROP_REMOVED),
+
+    /**
+     * The shovel did nothing because the tile has a rock.
+     */
+    DIG_HAS_ROCK(false, TileActionReport.DIG_HAS_ROCK);
+
+    private final boolean success;
+    private final String message;
+
+    /**
+     * Creates an outcome.
+     * @param success   Whether the outcome counts as a success.
+     * @param message   Feedback message for the outcome.
+     */
+    private TileActionOutcome(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+    public String getMessage() {
+        return message;
+    }
+}
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Contains feedback for a tile action/option.
  */
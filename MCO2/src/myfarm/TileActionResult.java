@@ -0,0 +1,98 @@
+package myfarm;
+
+/**
+ * Holds the result of a tile action without allocating a report for it. A
+ * single result can be reused for any number of actions, since each action
+ * overwrites it. Reports for the GUI can be created from it when needed.
+ */
+public class TileActionResult {
+    private TileActionOutcome outcome;
+    private double moneyCost;
+    private double expGained;
+    private int productsProduced;
+    private double profit;
+
+    /**
+     * Creates an empty result.
+     */
+    public TileActionResult() {
+        reset(TileActionOutcome.NO_TILE_SELECTED);
+    }
+
+    /**
+     * Sets the outcome of an action and clears its money cost, experience,
+     * products, and profit.
+     * @param outcome   The outcome of the action.
+     * @return   Whether the outcome counts as a success.
+     */
+    public boolean reset(TileActionOutcome outcome) {
+        this.outcome = outcome;
+        this.moneyCost = 0;
+        this.expGained = 0;
+        this.productsProduced = 0;
+        this.profit = 0;
+        return outcome.isSuccess();
+    }
+
+    /**
+     * Sets the outcome of an action along with its money cost and
+     * experience.
+     * @param outcome     The outcome of the action.
+     * @param moneyCost   Money it costed to do the action.
+     * @param expGained   Experience gained for performing the action.
+     * @return   Whether the outcome counts as a success.
+     */
+    public boolean set(TileActionOutcome outcome, double moneyCost, double expGained) {
+        reset(outcome);
+        this.moneyCost = moneyCost;
+        this.expGained = expGained;
+        return outcome.isSuccess();
+    }
+
+    /**
+     * Creates a report of the result for the GUI.
+     * @return   The report of the result.
+     */
+    public TileActionReport toReport() {
+        return new TileActionReport(isSuccess(), outcome.getMessage(), moneyCost, expGained);
+    }
+
+    /**
+     * Creates a harvest report of the result for the GUI.
+     * @return   The harvest report of the result.
+     */
+    public HarvestCropReport toHarvestReport() {
+        return new HarvestCropReport(isSuccess(), outcome.getMessage(), moneyCost, expGained, productsProduced,
+                profit);
+    }
+
+    /**
+     * Returns whether the outcome counts as a success.
+     * @return   Whether the outcome counts as a success.
+     */
+    public boolean isSuccess() {
+        return outcome.isSuccess();
+    }
+
+    public TileActionOutcome getOutcome() {
+        return outcome;
+    }
+    public double getMoneyCost() {
+        return moneyCost;
+    }
+    public double getExpGained() {
+        return expGained;
+    }
+    public int getProductsProduced() {
+        return productsProduced;
+    }
+    public void setProductsProduced(int productsProduced) {
+        this.productsProduced = productsProduced;
+    }
+    public double getProfit() {
+        return profit;
+    }
+    public void setProfit(double profit) {
+        this.profit = profit;
+    }
+}
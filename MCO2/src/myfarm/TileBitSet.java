@@ -0,0 +1,290 @@
+package myfarm;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A fixed-size set of bits, one per tile, packed into 64-bit words. Bit i
+ * corresponds to the tile at index i, where the index of a tile is
+ * {@code row * width + column}.
+ */
+public class TileBitSet {
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Creates a bit set with all bits cleared.
+     * @param size   The number of bits (tiles) in the set.
+     */
+    public TileBitSet(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Creates a copy of the given bit set.
+     * @param other   The bit set to be copied.
+     */
+    public TileBitSet(TileBitSet other) {
+        this.size = other.size;
+        this.words = other.words.clone();
+    }
+
+    /**
+     * Returns whether the bit at the given index is set.
+     * @param index   The index of the bit.
+     * @return   Whether the bit is set.
+     */
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index.
+     * @param index   The index of the bit.
+     */
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Clears the bit at the given index.
+     * @param index   The index of the bit.
+     */
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Sets the bits from the first index, inclusive, to the second index,
+     * exclusive.
+     * @param fromIndex   The first index of the range.
+     * @param toIndex     The index after the last index of the range.
+     */
+    public void set(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        int firstWord = fromIndex >>> 6;
+        int lastWord = (toIndex - 1) >>> 6;
+        long firstMask = -1L << fromIndex;
+        long lastMask = -1L >>> -toIndex;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+
+        words[firstWord] |= firstMask;
+        Arrays.fill(words, firstWord + 1, lastWord, -1L);
+        words[lastWord] |= lastMask;
+    }
+
+    /**
+     * Sets or clears the bit at the given index.
+     * @param index   The index of the bit.
+     * @param value   Whether the bit is to be set or cleared.
+     */
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    /**
+     * Returns the index of the first set bit at or after the given index.
+     * @param fromIndex   The index to start searching from.
+     * @return
+     *    The index of the next set bit   if there is one.
+     *    -1                              otherwise.
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex >= size) {
+            return -1;
+        }
+
+        int wordIndex = fromIndex >>> 6;
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Returns whether any bit from the first index, inclusive, to the second
+     * index, exclusive, is set.
+     * @param fromIndex   The first index of the range.
+     * @param toIndex     The index after the last index of the range.
+     * @return   Whether any bit in the range is set.
+     */
+    public boolean anySet(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return false;
+        }
+
+        int firstWord = fromIndex >>> 6;
+        int lastWord = (toIndex - 1) >>> 6;
+        long firstMask = -1L << fromIndex;
+        long lastMask = -1L >>> -toIndex;
+        if (firstWord == lastWord) {
+            return (words[firstWord] & firstMask & lastMask) != 0;
+        }
+
+        if ((words[firstWord] & firstMask) != 0) {
+            return true;
+        }
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return (words[lastWord] & lastMask) != 0;
+    }
+
+    /**
+     * Creates a bit set where each bit is set if the bit at the same index,
+     * or the bit the given distance before or after it, is set in this set.
+     * Dilating by 1 spreads each tile to its row neighbours and dilating by
+     * the width of the farm spreads it to its column neighbours, though
+     * dilating by 1 also spreads tiles on the edge to the other end of the
+     * row next to it.
+     * @param distance   The distance to spread each set bit by.
+     * @return   The dilated bit set.
+     */
+    public TileBitSet dilate(int distance) {
+        TileBitSet result = new TileBitSet(this);
+        int wordShift = distance >>> 6;
+        int bitShift = distance & 63;
+        for (int i = 0; i < words.length; i++) {
+            result.words[i] |= shiftedWord(i - wordShift, bitShift) | shiftedWord(i + wordShift, -bitShift);
+        }
+        result.clearUnusedBits();
+        return result;
+    }
+
+    /**
+     * Returns the word at the given word index moved by the given number of
+     * bits within the whole set, where a positive shift moves bits towards
+     * higher indices, and a negative shift moves bits towards lower indices.
+     * Words outside of the set are treated as cleared.
+     * @param wordIndex   The index of the word before it is moved.
+     * @param bitShift    The number of bits to move by, less than 64.
+     * @return   The moved word.
+     */
+    private long shiftedWord(int wordIndex, int bitShift) {
+        if (bitShift >= 0) {
+            long word = wordAt(wordIndex) << bitShift;
+            return bitShift == 0 ? word : word | wordAt(wordIndex - 1) >>> (64 - bitShift);
+        }
+        return wordAt(wordIndex) >>> -bitShift | wordAt(wordIndex + 1) << (64 + bitShift);
+    }
+
+    /**
+     * Returns the word at the given word index, or 0 if it is outside of the
+     * set.
+     * @param wordIndex   The index of the word.
+     * @return   The word.
+     */
+    private long wordAt(int wordIndex) {
+        return wordIndex >= 0 && wordIndex < words.length ? words[wordIndex] : 0;
+    }
+
+    /**
+     * Clears the bits in the last word that are past the size of the set.
+     */
+    private void clearUnusedBits() {
+        if ((size & 63) != 0) {
+            words[words.length - 1] &= -1L >>> -size;
+        }
+    }
+
+    /**
+     * Keeps only the bits that are also set in the given bit set.
+     * @param other   A bit set of the same size.
+     */
+    public void and(TileBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Clears the bits that are set in the given bit set.
+     * @param other   A bit set of the same size.
+     */
+    public void andNot(TileBitSet other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Returns the number of set bits.
+     * @return   The number of set bits.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Clears all the bits.
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Sets the bits to the bits of the given bit set.
+     * @param other   A bit set of the same size.
+     */
+    public void copyFrom(TileBitSet other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Writes the words of the set to the given buffer, in the buffer's byte
+     * order, and moves its position past them.
+     * @param buffer   The buffer to be written to.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.asLongBuffer().put(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+    }
+
+    /**
+     * Reads the words of the set from the given buffer, in the buffer's byte
+     * order, and moves its position past them. Bits past the size of the set
+     * are ignored.
+     * @param buffer   The buffer to be read from.
+     */
+    public void readFrom(ByteBuffer buffer) {
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+        clearUnusedBits();
+    }
+
+    /**
+     * Returns the number of bytes written by {@link #writeTo(ByteBuffer)}.
+     * @return   The number of bytes the words of the set take up.
+     */
+    public int byteSize() {
+        return words.length * Long.BYTES;
+    }
+
+    public int size() {
+        return size;
+    }
+}
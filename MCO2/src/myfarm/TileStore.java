@@ -0,0 +1,45 @@
+package myfarm;
+
+/**
+ * Stores the per-tile columns of a farm: the tile flags and the state of
+ * each tile's crop, along with the current day. Every column is indexed by
+ * {@code row * width + column}, and a store starts with every value set to
+ * zero, which is a tile that is unplowed, without a rock, and without a crop.
+ * Values of different tiles can be set from different threads at the same
+ * time.
+ * @see ArrayTileStore
+ * @see MappedTileStore
+ */
+public interface TileStore {
+    // Tile flags
+    public static final int PLOWED = 1;
+    public static final int ROCK = 1 << 1;
+
+    /**
+     * Returns the number of tiles in the store.
+     * @return   The number of tiles in the store.
+     */
+    public int size();
+
+    /**
+     * Returns a copy of the store that can be changed without changing this
+     * store.
+     * @return   The copy of the store.
+     */
+    public TileStore copy();
+
+    public int getDay();
+    public void setDay(int day);
+    public int getTileFlags(int index);
+    public void setTileFlags(int index, int flags);
+    public int getCropKind(int index);
+    public void setCropKind(int index, int kind);
+    public int getCropFlags(int index);
+    public void setCropFlags(int index, int flags);
+    public int getPlantedDay(int index);
+    public void setPlantedDay(int index, int day);
+    public int getWater(int index);
+    public void setWater(int index, int water);
+    public int getFertilizer(int index);
+    public void setFertilizer(int index, int fertilizer);
+}
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the tulips crop.
  */
@@ -7,6 +9,6 @@ public class Tulips extends Crop {
      * Creates a tulips crop.
      */
     public Tulips() {
-        super("Tulips", "Flower", 10, 9, 5, 2, 1, 1, 2, 3, 0, 1, 1.1);
+        super(CropDefinition.TULIPS);
     }
 }
@@ -1,3 +1,5 @@
+package myfarm;
+
 /**
  * Represents the turnip crop.
  */
@@ -7,6 +9,6 @@ public class Turnip extends Crop {
      * Creates a turnip crop.
      */
     public Turnip() {
-        super("Turnip", "Root Crop", 5, 6, 5, 2, 1, 2, 1, 2, 0, 1, 1);
+        super(CropDefinition.TURNIP);
     }
 }
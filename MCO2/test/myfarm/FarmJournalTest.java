@@ -0,0 +1,66 @@
+package myfarm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests recording games to a journal and recovering them from it.
+ */
+class FarmJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void rejectedCommandsAreNotRecorded() throws IOException {
+        MyFarm myFarm = new MyFarm(10, 5, 0, 1L);
+        FarmEngine engine = new FarmEngine(myFarm);
+        try (FarmJournal journal = FarmJournal.start(directory, myFarm)) {
+            engine.setJournal(journal);
+            engine.plow(0, 0);
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.executeOnArea(FarmAction.PLOW, 0, 0, 50, 50, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.executeOnArea(FarmAction.NEXT_DAY, 0, 0, 1, 1, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.execute(FarmCommand.nextDay(), new TileActionResult()));
+            engine.plow(1, 1);
+        }
+
+        MyFarm recovered = FarmJournal.recover(directory);
+        assertTrue(recovered.getState().isPlowed(recovered.getState().indexOf(0, 0)));
+        assertTrue(recovered.getState().isPlowed(recovered.getState().indexOf(1, 1)));
+        assertFalse(recovered.getState().isPlowed(recovered.getState().indexOf(2, 2)));
+        assertEquals(0, recovered.getState().getDay());
+        assertEquals(myFarm.getPlayerStats().getObjectCoins(), recovered.getPlayerStats().getObjectCoins());
+    }
+
+    @Test
+    void commandsAreRecoveredWithoutClosingTheJournal() throws IOException {
+        MyFarm myFarm = new MyFarm(10, 5, 0, 1L);
+        FarmEngine engine = new FarmEngine(myFarm);
+        FarmJournal journal = FarmJournal.start(directory, myFarm, FarmJournal.DEFAULT_CHECKPOINT_INTERVAL,
+                SyncPolicy.NEVER);
+        try {
+            engine.setJournal(journal);
+            for (int column = 0; column < 10; column++) {
+                engine.plow(0, column);
+            }
+
+            // the game crashing is the same as the journal never being closed
+            MyFarm recovered = FarmJournal.recover(directory);
+            for (int column = 0; column < 10; column++) {
+                assertTrue(recovered.getState().isPlowed(recovered.getState().indexOf(0, column)));
+            }
+        } finally {
+            journal.close();
+        }
+    }
+}
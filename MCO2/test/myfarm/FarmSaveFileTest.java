@@ -0,0 +1,93 @@
+package myfarm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests saving games to a file and loading them from it.
+ */
+class FarmSaveFileTest {
+    // Offsets in the header of a save file
+    private static final int WIDTH_OFFSET = 8;
+    private static final int HEIGHT_OFFSET = 12;
+    private static final int RANK_LENGTH_OFFSET = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedGameIsLoaded() throws IOException {
+        Path path = directory.resolve("myfarm.sav");
+        MyFarm myFarm = new MyFarm(10, 5, 10, 1L);
+        FarmSaveFile.save(myFarm, path);
+
+        MyFarm loaded = FarmSaveFile.load(path);
+        assertEquals(myFarm.getWidth(), loaded.getWidth());
+        assertEquals(myFarm.getHeight(), loaded.getHeight());
+        assertEquals(myFarm.getState().getOccupiedCount(), loaded.getState().getOccupiedCount());
+        assertEquals(myFarm.getPlayerStats().getObjectCoins(), loaded.getPlayerStats().getObjectCoins());
+    }
+
+    @Test
+    void dimensionsThatAreNotPositiveAreRejected() throws IOException {
+        Path path = saveAndCorrupt(WIDTH_OFFSET, -10);
+        assertThrows(IOException.class, () -> FarmSaveFile.load(path));
+    }
+
+    @Test
+    void dimensionsThatOverflowAreRejected() throws IOException {
+        Path path = saveAndCorrupt(WIDTH_OFFSET, 100000);
+        corrupt(path, HEIGHT_OFFSET, 100000);
+        assertThrows(IOException.class, () -> FarmSaveFile.load(path));
+    }
+
+    @Test
+    void dimensionsLargerThanTheFileAreRejected() throws IOException {
+        Path path = saveAndCorrupt(WIDTH_OFFSET, 40000);
+        corrupt(path, HEIGHT_OFFSET, 40000);
+        assertThrows(IOException.class, () -> FarmSaveFile.load(path));
+    }
+
+    @Test
+    void rankNameLongerThanTheFileIsRejected() throws IOException {
+        Path path = saveAndCorrupt(RANK_LENGTH_OFFSET, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> FarmSaveFile.load(path));
+    }
+
+    /**
+     * Saves a new game and overwrites the number at the given offset of the
+     * save file.
+     * @param offset   The offset of the number in the file.
+     * @param value    The number to be written.
+     * @return   The path of the save file.
+     * @throws IOException When the file cannot be written.
+     */
+    private Path saveAndCorrupt(int offset, int value) throws IOException {
+        Path path = directory.resolve("myfarm.sav");
+        FarmSaveFile.save(new MyFarm(10, 5, 10, 1L), path);
+        corrupt(path, offset, value);
+        return path;
+    }
+
+    /**
+     * Overwrites the number at the given offset of the given file.
+     * @param path     The path of the file.
+     * @param offset   The offset of the number in the file.
+     * @param value    The number to be written.
+     * @throws IOException When the file cannot be read or written.
+     */
+    private static void corrupt(Path path, int offset, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(offset, value);
+        Files.write(path, bytes);
+    }
+}
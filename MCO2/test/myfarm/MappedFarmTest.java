@@ -0,0 +1,134 @@
+package myfarm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests saving games kept in a memory-mapped file and opening them again.
+ */
+class MappedFarmTest {
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedGameIsContinuedWithoutReadingEveryTile() throws IOException {
+        Path path = directory.resolve("farm.tiles");
+        MyFarm myFarm = MyFarm.openMapped(path, WIDTH, HEIGHT, 10, new SplittableRandom(1));
+        playSomeDays(myFarm);
+        myFarm.saveMapped();
+        MyFarm expected = myFarm.fork(new SplittableRandom(2));
+
+        MyFarm reopened = MyFarm.openMapped(path, WIDTH, HEIGHT, 10, new SplittableRandom(2));
+        MappedTileStore store = (MappedTileStore)reopened.getState().getStore();
+        assertFalse(store.isCreated());
+        assertSameGame(expected, reopened);
+
+        // the schedules of the growing and harvestable crops were rebuilt
+        new FarmEngine(expected).advanceDays(3);
+        new FarmEngine(reopened).advanceDays(3);
+        assertSameGame(expected, reopened);
+        assertFalse(store.isSaved());
+    }
+
+    @Test
+    void changesAfterSavingAreNotTakenForSaved() throws IOException {
+        Path path = directory.resolve("farm.tiles");
+        MyFarm myFarm = MyFarm.openMapped(path, WIDTH, HEIGHT, 10, new SplittableRandom(1));
+        playSomeDays(myFarm);
+        myFarm.saveMapped();
+        double savedObjectCoins = myFarm.getPlayerStats().getObjectCoins();
+
+        // the game stops after this without being saved again
+        FarmState state = myFarm.getState();
+        int index = state.getOpenTiles().nextSetBit(0);
+        new FarmEngine(myFarm).plant(index / WIDTH, index % WIDTH, new Turnip());
+        assertFalse(((MappedTileStore)state.getStore()).isSaved());
+        MyFarm expected = myFarm.fork(new SplittableRandom(2));
+
+        MyFarm reopened = MyFarm.openMapped(path, WIDTH, HEIGHT, 10, new SplittableRandom(2));
+        assertTrue(reopened.getState().hasCrop(index));
+        assertEquals(expected.getState().getPlantedCount(), reopened.getState().getPlantedCount());
+        assertSameTiles(expected.getState().getGrowingTiles(), reopened.getState().getGrowingTiles());
+        assertSameTiles(expected.getState().getOpenTiles(), reopened.getState().getOpenTiles());
+
+        // the stats are the ones of the last save
+        assertEquals(savedObjectCoins, reopened.getPlayerStats().getObjectCoins());
+    }
+
+    /**
+     * Plows and plants every other open tile, waters some of the crops, and
+     * moves on a few days, so that the farm has growing, harvestable, and
+     * withered crops.
+     * @param myFarm   The game to be played.
+     */
+    private static void playSomeDays(MyFarm myFarm) {
+        FarmEngine engine = new FarmEngine(myFarm);
+        myFarm.getPlayerStats().setObjectCoins(10000);
+        engine.executeOnArea(FarmAction.PLOW, 0, 0, HEIGHT - 1, WIDTH - 1, null);
+        for (int row = 0; row < HEIGHT; row += 2) {
+            for (int column = 0; column < WIDTH; column++) {
+                engine.plant(row, column, new Turnip());
+                if (column % 3 != 0) {
+                    engine.water(row, column);
+                }
+            }
+            engine.nextDay();
+        }
+    }
+
+    /**
+     * Asserts that the given games have the same stats, counts, and tiles.
+     * @param expected   The game that was saved.
+     * @param actual     The game that was opened.
+     */
+    private static void assertSameGame(MyFarm expected, MyFarm actual) {
+        Stats expectedStats = expected.getPlayerStats();
+        Stats actualStats = actual.getPlayerStats();
+        assertEquals(expectedStats.getRank(), actualStats.getRank());
+        assertEquals(expectedStats.getObjectCoins(), actualStats.getObjectCoins());
+        assertEquals(expectedStats.getExperience(), actualStats.getExperience());
+        assertEquals(expectedStats.getLevel(), actualStats.getLevel());
+
+        FarmState expectedState = expected.getState();
+        FarmState actualState = actual.getState();
+        assertEquals(expectedState.getDay(), actualState.getDay());
+        assertEquals(expectedState.getPlantedCount(), actualState.getPlantedCount());
+        assertEquals(expectedState.getWitheredCount(), actualState.getWitheredCount());
+        assertEquals(expectedState.getOccupiedCount(), actualState.getOccupiedCount());
+        assertSameTiles(expectedState.getGrowingTiles(), actualState.getGrowingTiles());
+        assertSameTiles(expectedState.getHarvestableTiles(), actualState.getHarvestableTiles());
+        assertSameTiles(expectedState.getWitheredTiles(), actualState.getWitheredTiles());
+        assertSameTiles(expectedState.getOpenTiles(), actualState.getOpenTiles());
+        for (CropType type : CropType.values()) {
+            assertSameTiles(expectedState.getPlantableTiles(type), actualState.getPlantableTiles(type));
+        }
+        for (int i = 0; i < expectedState.size(); i++) {
+            assertEquals(expectedState.hasRock(i), actualState.hasRock(i));
+            assertEquals(expectedState.isPlowed(i), actualState.isPlowed(i));
+            assertEquals(expectedState.getCropFlags(i), actualState.getCropFlags(i));
+        }
+    }
+
+    /**
+     * Asserts that the given bit sets have the same tiles set.
+     * @param expected   The expected tiles.
+     * @param actual     The actual tiles.
+     */
+    private static void assertSameTiles(TileBitSet expected, TileBitSet actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i), "tile " + i);
+        }
+    }
+}
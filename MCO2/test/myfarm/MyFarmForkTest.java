@@ -0,0 +1,45 @@
+package myfarm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests forking a game for look-ahead.
+ */
+class MyFarmForkTest {
+    @Test
+    void forksOfSeededGamesPlayTheSame() {
+        assertEquals(harvestFork(new MyFarm(10, 5, 10, 42L)), harvestFork(new MyFarm(10, 5, 10, 42L)));
+    }
+
+    @Test
+    void forksOfGamesWithGeneratorsThatCannotBeSplitPlayTheSame() {
+        assertEquals(harvestFork(new MyFarm(10, 5, 10, new Random(42))),
+                harvestFork(new MyFarm(10, 5, 10, new Random(42))));
+    }
+
+    /**
+     * Forks the given game, then plants, grows, and harvests turnips on
+     * every open tile of the fork.
+     * @param myFarm   The game to be forked.
+     * @return   The player's money in the fork afterwards.
+     */
+    private static double harvestFork(MyFarm myFarm) {
+        MyFarm fork = myFarm.fork();
+        FarmEngine engine = new FarmEngine(fork);
+        fork.getPlayerStats().setObjectCoins(1000);
+        for (int row = 0; row < fork.getHeight(); row++) {
+            for (int column = 0; column < fork.getWidth(); column++) {
+                engine.plow(row, column);
+                engine.plant(row, column, new Turnip());
+                engine.water(row, column);
+            }
+        }
+        engine.advanceDays(new Turnip().getHarvestAge());
+        engine.harvestAll();
+        return fork.getPlayerStats().getObjectCoins();
+    }
+}